@@ -0,0 +1,189 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Latency of listing the courses a student has not taken, at 10,000 courses and 10,000 students with
+ * 100 enrollments each, through the in-memory {@link CourseCatalogIndex} and through the database
+ * anti-join the service falls back to when the index is disabled.
+ * <p>
+ * The database is an in-memory H2 with the tables Hibernate generates for the entities, so the numbers
+ * leave out the network round trip a real database adds to both database paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseCatalogBenchmark {
+
+    private static final int COURSE_COUNT = 10_000;
+
+    private static final int STUDENT_COUNT = 10_000;
+
+    private static final int COURSES_PER_STUDENT = 100;
+
+    private static final JdbcDataSource DATA_SOURCE = new JdbcDataSource();
+
+    static {
+        // Used directly because the benchmark jar's merged java.sql.Driver service file only lists one driver
+        DATA_SOURCE.setURL("jdbc:h2:mem:catalog;DB_CLOSE_DELAY=-1");
+    }
+
+    // Same query as CourseRepository.findCoursesNotTakenByStudent
+    private static final String NOT_TAKEN_SQL = "SELECT c.code, c.title, c.description FROM courses c "
+            + "WHERE NOT EXISTS (SELECT 1 FROM student_courses e WHERE e.course_code = c.code AND e.student_id = ?) "
+            + "AND EXISTS (SELECT 1 FROM students s WHERE s.id = ?)";
+
+    // Same query as EnrollmentRepository.findCourseCodesByStudentId
+    private static final String TAKEN_CODES_SQL = "SELECT course_code FROM student_courses WHERE student_id = ?";
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+        final CourseCatalogIndex index = new CourseCatalogIndex(null, true);
+        List<List<String>> enrollments;
+        private Connection schemaConnection;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            List<CourseDTO> courses = IntStream.range(0, COURSE_COUNT)
+                    .mapToObj(i -> new CourseDTO(code(i), "Course " + i, "Description " + i))
+                    .collect(Collectors.toList());
+            index.load(courses);
+            enrollments = IntStream.range(0, STUDENT_COUNT)
+                    .mapToObj(student -> IntStream.range(0, COURSES_PER_STUDENT)
+                            .mapToObj(j -> code((student * 7 + j * 97) % COURSE_COUNT))
+                            .collect(Collectors.toList()))
+                    .collect(Collectors.toList());
+
+            // Kept open for the whole trial so the in-memory database is not dropped
+            schemaConnection = DATA_SOURCE.getConnection();
+            try (Statement statement = schemaConnection.createStatement()) {
+                statement.execute("CREATE TABLE courses (code VARCHAR(10) PRIMARY KEY, "
+                        + "title VARCHAR(255) NOT NULL, description TEXT)");
+                statement.execute("CREATE TABLE students (id BIGINT PRIMARY KEY)");
+                statement.execute("CREATE TABLE student_courses (student_id BIGINT NOT NULL, "
+                        + "course_code VARCHAR(10) NOT NULL, PRIMARY KEY (student_id, course_code))");
+            }
+            schemaConnection.setAutoCommit(false);
+            try (PreparedStatement insert = schemaConnection.prepareStatement("INSERT INTO courses VALUES (?, ?, ?)")) {
+                for (CourseDTO course : courses) {
+                    insert.setString(1, course.getCode());
+                    insert.setString(2, course.getTitle());
+                    insert.setString(3, course.getDescription());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement insertStudent = schemaConnection.prepareStatement("INSERT INTO students VALUES (?)");
+                 PreparedStatement insertEnrollment = schemaConnection.prepareStatement("INSERT INTO student_courses VALUES (?, ?)")) {
+                for (int student = 0; student < STUDENT_COUNT; student++) {
+                    insertStudent.setLong(1, student);
+                    insertStudent.addBatch();
+                    for (String code : enrollments.get(student)) {
+                        insertEnrollment.setLong(1, student);
+                        insertEnrollment.setString(2, code);
+                        insertEnrollment.addBatch();
+                    }
+                    insertEnrollment.executeBatch();
+                }
+                insertStudent.executeBatch();
+            }
+            schemaConnection.commit();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = schemaConnection.createStatement()) {
+                statement.execute("DROP ALL OBJECTS");
+            }
+            schemaConnection.close();
+        }
+
+        private static String code(int i) {
+            return String.format("C%05d", i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Session {
+        Connection connection;
+        PreparedStatement notTaken;
+        PreparedStatement takenCodes;
+
+        @Setup(Level.Trial)
+        public void setUp(Catalog catalog) throws SQLException {
+            connection = DATA_SOURCE.getConnection();
+            notTaken = connection.prepareStatement(NOT_TAKEN_SQL);
+            takenCodes = connection.prepareStatement(TAKEN_CODES_SQL);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    /**
+     * The index alone, with the student's course codes already at hand.
+     */
+    @Benchmark
+    public List<CourseDTO> indexComplement(Catalog catalog) {
+        return catalog.index.complementOf(catalog.enrollments.get(nextStudent()));
+    }
+
+    /**
+     * The service path with the index enabled: one query for the taken codes, then the complement.
+     */
+    @Benchmark
+    public List<CourseDTO> indexWithTakenCodesQuery(Catalog catalog, Session session) throws SQLException {
+        session.takenCodes.setLong(1, nextStudent());
+        List<String> codes = new ArrayList<>(COURSES_PER_STUDENT);
+        try (ResultSet rows = session.takenCodes.executeQuery()) {
+            while (rows.next()) {
+                codes.add(rows.getString(1));
+            }
+        }
+        return catalog.index.complementOf(codes);
+    }
+
+    /**
+     * The service path with the index disabled: the NOT EXISTS anti-join.
+     */
+    @Benchmark
+    public List<CourseDTO> databaseAntiJoin(Session session) throws SQLException {
+        long student = nextStudent();
+        session.notTaken.setLong(1, student);
+        session.notTaken.setLong(2, student);
+        List<CourseDTO> courses = new ArrayList<>(COURSE_COUNT);
+        try (ResultSet rows = session.notTaken.executeQuery()) {
+            while (rows.next()) {
+                courses.add(new CourseDTO(rows.getString(1), rows.getString(2), rows.getString(3)));
+            }
+        }
+        return courses;
+    }
+
+    private static int nextStudent() {
+        return ThreadLocalRandom.current().nextInt(STUDENT_COUNT);
+    }
+}
@@ -0,0 +1,94 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of admitting a request under the previous global synchronized limiter and the
+ * per-client lock-free buckets. Run with different {@code -PjmhThreads} values to see how each
+ * scales with the number of request threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimiterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Limiters {
+        // Large budgets refilled every second keep the benchmarks on the admitting path
+        final SynchronizedGlobalBucket globalBucket = new SynchronizedGlobalBucket(Integer.MAX_VALUE, 1000);
+        final TokenBucket sharedBucket = new TokenBucket(Integer.MAX_VALUE, Duration.ofSeconds(1));
+        final GcraBucket sharedGcraBucket = new GcraBucket(1_000_000, 1_000_000, Duration.ofNanos(1_000_000));
+        final RateLimitingContainer container = new RateLimitingContainer(RateLimitAlgorithm.FIXED_WINDOW, Integer.MAX_VALUE, Integer.MAX_VALUE, 1, 100_000);
+        final AtomicInteger clients = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        String key;
+
+        @Setup
+        public void setUp(Limiters limiters) {
+            key = "addr:10.0.0." + limiters.clients.incrementAndGet();
+        }
+    }
+
+    @Benchmark
+    public boolean globalSynchronized(Limiters limiters) {
+        return limiters.globalBucket.tryConsume(1);
+    }
+
+    @Benchmark
+    public boolean sharedLockFreeBucket(Limiters limiters) {
+        return limiters.sharedBucket.tryConsume(1);
+    }
+
+    @Benchmark
+    public boolean sharedGcraBucket(Limiters limiters) {
+        return limiters.sharedGcraBucket.tryConsume(1);
+    }
+
+    @Benchmark
+    public boolean perClientBuckets(Limiters limiters, Client client) {
+        return limiters.container.tryConsume(client.key, 1);
+    }
+
+    /**
+     * The limiter this benchmark compares against: one bucket for all clients, guarded by a monitor.
+     */
+    static class SynchronizedGlobalBucket {
+        private final AtomicInteger tokens;
+        private final int capacity;
+        private final long periodMillis;
+        private long lastRefillTimestamp;
+
+        SynchronizedGlobalBucket(int capacity, long periodMillis) {
+            this.tokens = new AtomicInteger(capacity);
+            this.capacity = capacity;
+            this.periodMillis = periodMillis;
+            this.lastRefillTimestamp = System.currentTimeMillis();
+        }
+
+        synchronized boolean tryConsume(int tokenCount) {
+            long now = System.currentTimeMillis();
+            if (now - lastRefillTimestamp >= Duration.ofMillis(periodMillis).toMillis()) {
+                tokens.set(capacity);
+                lastRefillTimestamp = now;
+            }
+            int currentTokens = tokens.get();
+            if (currentTokens >= tokenCount) {
+                return tokens.compareAndSet(currentTokens, currentTokens - tokenCount);
+            }
+            return false;
+        }
+    }
+}
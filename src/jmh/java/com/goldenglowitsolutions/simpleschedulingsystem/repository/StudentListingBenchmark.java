@@ -0,0 +1,93 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of listing all students, at 2,000 students, through the DTO projection of
+ * {@link StudentRepository#findAllDTOs()} and through loading managed entities and mapping them.
+ * Run with {@code -prof gc} to compare the bytes allocated per call.
+ * <p>
+ * Every call opens its own session, as a request would. The database is an in-memory H2 with the
+ * second-level cache off, so entity loading always hydrates the rows it reads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StudentListingBenchmark {
+
+    private static final int STUDENT_COUNT = 2_000;
+
+    // Same query as StudentRepository.findAllDTOs
+    private static final String PROJECTION_JPQL = "SELECT new com.goldenglowitsolutions.simpleschedulingsystem.dto."
+            + "StudentDTO(s.id, s.firstName, s.lastName, s.email) FROM Student s";
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Used directly because the benchmark jar's merged java.sql.Driver service file only lists one driver
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:students;DB_CLOSE_DELAY=-1");
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Student.class)
+                .addAnnotatedClass(Course.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50");
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < STUDENT_COUNT; i++) {
+                session.persist(new Student("First" + i, "Last" + i, "student" + i + "@example.com"));
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * The repository path: rows go straight into DTOs.
+     */
+    @Benchmark
+    public List<StudentDTO> projection() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createQuery(PROJECTION_JPQL, StudentDTO.class).getResultList();
+        }
+    }
+
+    /**
+     * Loading managed entities, with their snapshots for dirty checking, and mapping them to DTOs.
+     */
+    @Benchmark
+    public List<StudentDTO> entityLoading() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createQuery("FROM Student", Student.class).getResultList().stream()
+                    .map(s -> new StudentDTO(s.getId(), s.getFirstName(), s.getLastName(), s.getEmail()))
+                    .collect(Collectors.toList());
+        }
+    }
+}
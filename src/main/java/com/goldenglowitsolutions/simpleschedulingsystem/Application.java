@@ -3,6 +3,7 @@ package com.goldenglowitsolutions.simpleschedulingsystem;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the Simple Scheduling System.
@@ -15,6 +16,7 @@ import org.springframework.cache.annotation.EnableCaching;
  */
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class Application {
 
     public static void main(String[] args) {
@@ -0,0 +1,48 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+/**
+ * A message telling every other node to drop an entry, or all entries, from its near cache.
+ */
+public final class CacheInvalidation {
+
+    private final String origin;
+
+    private final String cacheName;
+
+    private final Object key;
+
+    // Constructors
+    public CacheInvalidation(String origin, String cacheName, Object key) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    // Getters
+    /**
+     * @return the ID of the node that changed the entry
+     */
+    public String getOrigin() {
+        return origin;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    /**
+     * @return the key of the changed entry, or null if the whole cache was cleared
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidation{origin='" + origin + "', cacheName='" + cacheName + "', key=" + key + "}";
+    }
+}
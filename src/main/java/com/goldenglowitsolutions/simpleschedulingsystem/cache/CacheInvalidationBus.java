@@ -0,0 +1,28 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts cache invalidations between application nodes.
+ * <p>
+ * {@link TwoLevelCacheManager} publishes an invalidation for every put, evict and clear, and evicts its
+ * near cache when another node publishes one. Implementations deliver each invalidation to every
+ * subscriber, including the publishing node, which ignores its own messages. A deployment with several
+ * nodes plugs in a networked implementation, such as a message broker topic.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Sends an invalidation to every subscribed node.
+     *
+     * @param invalidation the invalidation
+     */
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers a node to receive invalidations.
+     *
+     * @param listener the callback invoked for every published invalidation
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
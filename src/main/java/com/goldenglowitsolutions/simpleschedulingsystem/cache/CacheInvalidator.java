@@ -0,0 +1,134 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Central place for invalidating cached data that depends on more than one entity.
+ * <p>
+ * Each service evicts the cache entries of its own entity with cache annotations. Entries that embed
+ * related entities are evicted here, and only for the keys a write actually touched:
+ * <ul>
+ *     <li>{@code studentCourses}: a student with their courses, keyed by student ID</li>
+ *     <li>{@code courseStudents}: the students of a course, keyed by course code</li>
+ *     <li>{@code courseRosters}: a course with its students, keyed by course code</li>
+ * </ul>
+ * Enrollments are written through the {@code Enrollment} entity straight into the join table behind
+ * {@code Student.courses} and {@code Course.students}, so Hibernate does not know that those cached
+ * collections changed either. Services call these methods after the writing transaction has committed.
+ * <p>
+ * The cached lists are evicted here too, in the same after-commit callback that bumps {@link DataVersions},
+ * so a list cached under an ETag is never older than the ETag.
+ */
+@Component
+public class CacheInvalidator {
+
+    static final String STUDENT_COURSES_ROLE = Student.class.getName() + ".courses";
+
+    static final String COURSE_STUDENTS_ROLE = Course.class.getName() + ".students";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final CacheManager cacheManager;
+
+    public CacheInvalidator(EntityManagerFactory entityManagerFactory, CacheManager cacheManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Invalidate cached data after enrollments between the given students and courses were added or removed.
+     *
+     * @param studentIds the IDs of the affected students
+     * @param courseCodes the codes of the affected courses
+     */
+    public void enrollmentsChanged(Collection<Long> studentIds, Collection<String> courseCodes) {
+        Cache cache = secondLevelCache();
+        studentIds.forEach(studentId -> cache.evictCollectionData(STUDENT_COURSES_ROLE, studentId));
+        courseCodes.forEach(courseCode -> cache.evictCollectionData(COURSE_STUDENTS_ROLE, courseCode));
+        evict("studentCourses", studentIds);
+        evict("courseStudents", courseCodes);
+        evict("courseRosters", courseCodes);
+    }
+
+    /**
+     * Invalidate cached data after a student's details were updated.
+     *
+     * @param studentId the ID of the updated student
+     * @param courseCodes the codes of the courses the student is enrolled in
+     */
+    public void studentUpdated(Long studentId, Collection<String> courseCodes) {
+        evict("courseStudents", courseCodes);
+        evict("courseRosters", courseCodes);
+    }
+
+    /**
+     * Invalidate cached data after a student was deleted.
+     *
+     * @param studentId the ID of the deleted student
+     * @param courseCodes the codes of the courses the student was enrolled in
+     */
+    public void studentDeleted(Long studentId, Collection<String> courseCodes) {
+        // Hibernate evicts the student and its own collection; the inverse course collections are left to us
+        Cache cache = secondLevelCache();
+        courseCodes.forEach(courseCode -> cache.evictCollectionData(COURSE_STUDENTS_ROLE, courseCode));
+        evict("courseStudents", courseCodes);
+        evict("courseRosters", courseCodes);
+    }
+
+    /**
+     * Invalidate cached data after a course's details were updated.
+     *
+     * @param courseCode the code of the updated course
+     * @param studentIds the IDs of the students enrolled in the course
+     */
+    public void courseUpdated(String courseCode, Collection<Long> studentIds) {
+        cacheManager.getCache("courseRosters").evict(courseCode);
+        evict("studentCourses", studentIds);
+    }
+
+    /**
+     * Invalidate cached data after a course was deleted.
+     *
+     * @param courseCode the code of the deleted course
+     * @param studentIds the IDs of the students that were enrolled in the course
+     */
+    public void courseDeleted(String courseCode, Collection<Long> studentIds) {
+        Cache cache = secondLevelCache();
+        cache.evictEntityData(Course.class, courseCode);
+        cache.evictCollectionData(COURSE_STUDENTS_ROLE, courseCode);
+        studentIds.forEach(studentId -> cache.evictCollectionData(STUDENT_COURSES_ROLE, studentId));
+        cacheManager.getCache("courseStudents").evict(courseCode);
+        cacheManager.getCache("courseRosters").evict(courseCode);
+        evict("studentCourses", studentIds);
+    }
+
+    /**
+     * Invalidate the cached student roster after a student was created, updated or deleted.
+     */
+    public void evictStudentRoster() {
+        cacheManager.getCache("studentRoster").evict("all");
+    }
+
+    /**
+     * Invalidate the cached course catalog after a course was created, updated or deleted.
+     */
+    public void evictCourseCatalog() {
+        cacheManager.getCache("courseCatalog").evict("all");
+    }
+
+    private void evict(String cacheName, Collection<?> keys) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(cacheName);
+        keys.forEach(cache::evict);
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Actuator endpoint for inspecting and clearing the application caches.
+ * <p>
+ * {@code GET /actuator/cachestats} lists the statistics of every cache, {@code GET
+ * /actuator/cachestats/{name}} those of a single cache and {@code DELETE /actuator/cachestats/{name}}
+ * clears a cache, or only the entry whose key matches the optional {@code key} parameter.
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Statistics of every cache.
+     *
+     * @return the statistics keyed by cache name
+     */
+    @ReadOperation
+    public Map<String, Object> caches() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CaffeineCache cache = caffeineCache(name);
+            if (cache != null) {
+                caches.put(name, statistics(cache));
+            }
+        }
+        return caches;
+    }
+
+    /**
+     * Statistics of a single cache.
+     *
+     * @param name the cache name
+     * @return the statistics, or null (404) if there is no such cache
+     */
+    @ReadOperation
+    public Map<String, Object> cache(@Selector String name) {
+        CaffeineCache cache = caffeineCache(name);
+        return cache == null ? null : statistics(cache);
+    }
+
+    /**
+     * Clears a cache, or a single entry of it.
+     * <p>
+     * Keys are matched on their string form, so {@code 42} selects the entry of student 42 and
+     * {@code CS101} the entry of that course. Keys only present in the shared tier are not matched.
+     *
+     * @param name the cache name
+     * @param key the key of the entry to evict, or null to clear the whole cache
+     * @return the number of evicted entries, or null (404) if there is no such cache
+     */
+    @DeleteOperation
+    public Map<String, Object> clear(@Selector String name, @Nullable String key) {
+        CaffeineCache nearCache = caffeineCache(name);
+        if (nearCache == null) {
+            return null;
+        }
+
+        // Evict through the manager's cache so that the other tier and nodes are cleared as well
+        Cache cache = cacheManager.getCache(name);
+        long evicted;
+        if (key == null) {
+            evicted = nearCache.getNativeCache().estimatedSize();
+            cache.clear();
+        } else {
+            List<Object> keys = nearCache.getNativeCache().asMap().keySet().stream()
+                    .filter(k -> k.toString().equals(key))
+                    .collect(Collectors.toList());
+            keys.forEach(cache::evict);
+            evicted = keys.size();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cache", name);
+        result.put("evicted", evicted);
+        return result;
+    }
+
+    private CaffeineCache caffeineCache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            cache = twoLevelCache.getNearCache();
+        }
+        return cache instanceof CaffeineCache caffeineCache ? caffeineCache : null;
+    }
+
+    private Map<String, Object> statistics(CaffeineCache cache) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("size", nativeCache.estimatedSize());
+        nativeCache.policy().eviction().ifPresent(eviction -> {
+            eviction.weightedSize().ifPresent(weight -> statistics.put("weight", weight));
+            statistics.put("maximumWeight", eviction.getMaximum());
+        });
+        statistics.put("hits", stats.hitCount());
+        statistics.put("misses", stats.missCount());
+        statistics.put("hitRate", stats.hitRate());
+        statistics.put("evictions", stats.evictionCount());
+        statistics.put("loads", stats.loadCount());
+        statistics.put("loadFailures", stats.loadFailureCount());
+        statistics.put("averageLoadMillis", stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1));
+        return statistics;
+    }
+}
@@ -0,0 +1,17 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose response body comes from a service cache, so its encoded JSON can
+ * be cached by {@link ResponseBodyCache} and written without serializing the body again.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+}
@@ -0,0 +1,102 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Writes the JSON bodies of {@link CachedResponse} methods from {@link ResponseBodyCache}.
+ * <p>
+ * The cached bytes, gzip compressed when the client accepts it, are written straight to the response
+ * and Jackson is skipped. Returning {@code null} afterwards tells Spring MVC that there is nothing left
+ * to write.
+ */
+@ControllerAdvice
+public class CachedResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ResponseBodyCache responseBodyCache;
+
+    public CachedResponseBodyAdvice(ResponseBodyCache responseBodyCache) {
+        this.responseBodyCache = responseBodyCache;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(CachedResponse.class)
+                && MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) {
+            return body;
+        }
+
+        ResponseBodyCache.EncodedBody encoded = responseBodyCache.encode(body);
+        boolean gzip = encoded.isCompressible() && acceptsGzip(request);
+        byte[] bytes = gzip ? encoded.gzip() : encoded.json();
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(bytes.length);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        try {
+            response.getBody().write(bytes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return null;
+    }
+
+    /**
+     * Whether the Accept-Encoding header allows gzip. Codings are matched case-insensitively, an explicit
+     * {@code gzip} entry takes precedence over {@code *}, and a weight of {@code q=0} refuses the coding.
+     */
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        Double gzipWeight = null;
+        Double wildcardWeight = null;
+        for (String value : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            for (String element : value.split(",")) {
+                String[] parameters = element.split(";");
+                String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzipWeight = weightOf(parameters);
+                } else if (coding.equals("*")) {
+                    wildcardWeight = weightOf(parameters);
+                }
+            }
+        }
+        Double weight = gzipWeight != null ? gzipWeight : wildcardWeight;
+        return weight != null && weight > 0;
+    }
+
+    private static double weightOf(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    // An unreadable weight does not accept the coding
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,56 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+
+/**
+ * Refreshes entries of the {@code courseCatalog} or the {@code courses} cache in the background.
+ * Misses are left to the cached methods, which check the negative cache and the shared tier first.
+ */
+public class CourseCacheLoader implements CacheLoader<Object, Object> {
+
+    private final CourseRepository courseRepository;
+
+    // Course codes and the catalog key are both strings, so each cache gets its own loader
+    private final boolean catalog;
+
+    private CourseCacheLoader(CourseRepository courseRepository, boolean catalog) {
+        this.courseRepository = courseRepository;
+        this.catalog = catalog;
+    }
+
+    /**
+     * @param courseRepository the course repository
+     * @return a loader refreshing the whole catalog under {@code 'all'}
+     */
+    public static CourseCacheLoader forCatalog(CourseRepository courseRepository) {
+        return new CourseCacheLoader(courseRepository, true);
+    }
+
+    /**
+     * @param courseRepository the course repository
+     * @return a loader refreshing single courses by code
+     */
+    public static CourseCacheLoader forCourses(CourseRepository courseRepository) {
+        return new CourseCacheLoader(courseRepository, false);
+    }
+
+    @Override
+    public Object load(Object key) {
+        return null;
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        if (catalog) {
+            return courseRepository.findAllDTOs();
+        }
+        if (key instanceof String code) {
+            return courseRepository.findById(code)
+                    .map(course -> new CourseDTO(course.getCode(), course.getTitle(), course.getDescription()))
+                    .orElse(null);
+        }
+        return oldValue;
+    }
+}
@@ -0,0 +1,90 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters of the student, course and enrollment data, bumped by the services after every
+ * committed change. Responses derive their ETags from these counters, so a conditional GET can be
+ * answered without loading or hashing the data.
+ * <p>
+ * Counters are node-local and move independently, so every ETag starts with a random epoch drawn at
+ * startup. An ETag from another node or from before a restart then never matches, which costs a full
+ * response rather than a 304 for different data. Bumps are broadcast on the {@link CacheInvalidationBus}
+ * so that every node stops answering 304 for data changed elsewhere.
+ */
+@Component
+public class DataVersions {
+
+    /**
+     * The data whose changes are counted.
+     */
+    public enum Aggregate {
+        STUDENTS, COURSES, ENROLLMENTS
+    }
+
+    static final String BUS_CHANNEL = "dataVersions";
+
+    private final Map<Aggregate, AtomicLong> versions = new EnumMap<>(Aggregate.class);
+
+    private final CacheInvalidationBus bus;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final String epoch = Long.toString(new SecureRandom().nextLong() >>> 1, 36);
+
+    public DataVersions(CacheInvalidationBus bus) {
+        this.bus = bus;
+        for (Aggregate aggregate : Aggregate.values()) {
+            versions.put(aggregate, new AtomicLong());
+        }
+        bus.subscribe(this::onInvalidation);
+    }
+
+    /**
+     * @param aggregate the data
+     * @return the current version of the data
+     */
+    public long current(Aggregate aggregate) {
+        return versions.get(aggregate).get();
+    }
+
+    /**
+     * Records a change on this node and tells the other nodes about it.
+     *
+     * @param aggregates the changed data
+     */
+    public void bump(Aggregate... aggregates) {
+        for (Aggregate aggregate : aggregates) {
+            versions.get(aggregate).incrementAndGet();
+            bus.publish(new CacheInvalidation(nodeId, BUS_CHANNEL, aggregate.name()));
+        }
+    }
+
+    /**
+     * Builds a strong ETag from this node's epoch and the current versions of the given data.
+     *
+     * @param aggregates the data a response is built from
+     * @return the quoted ETag
+     */
+    public String etag(Aggregate... aggregates) {
+        StringBuilder etag = new StringBuilder("\"").append(epoch);
+        for (Aggregate aggregate : aggregates) {
+            etag.append('-')
+                    .append(Character.toLowerCase(aggregate.name().charAt(0)))
+                    .append(Long.toString(current(aggregate), 36));
+        }
+        return etag.append('"').toString();
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (BUS_CHANNEL.equals(invalidation.getCacheName()) && !nodeId.equals(invalidation.getOrigin())) {
+            versions.get(Aggregate.valueOf((String) invalidation.getKey())).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} that delivers invalidations synchronously within one JVM.
+ * <p>
+ * With a single instance it is all a node needs. Sharing one bus between several
+ * {@link TwoLevelCacheManager}s stands in for a multi-node deployment in tests.
+ */
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
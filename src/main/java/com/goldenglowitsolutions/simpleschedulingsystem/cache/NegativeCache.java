@@ -0,0 +1,72 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers keys that recently turned out not to exist, so repeated lookups of the same missing
+ * student or course are answered without querying the database.
+ * <p>
+ * Entries live in the short-lived, size-bounded {@code missingEntities} cache. Services record misses
+ * and forget a key once an entity with that key has been created; controllers check it before calling
+ * the cached service methods, so known-missing keys are rejected without the cache wrapping the
+ * exception.
+ * <p>
+ * Misses are recorded in the near tier only: they are cheap to rediscover, so they are neither written
+ * to the shared tier nor broadcast. Forgetting a key is broadcast, so a node that saw a miss does not
+ * keep answering 404 for an entity just created on another node.
+ */
+@Component
+public class NegativeCache {
+
+    static final String CACHE_NAME = "missingEntities";
+
+    private final CacheManager cacheManager;
+
+    public NegativeCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * @param type the entity type
+     * @param id the entity ID
+     * @return whether the entity was recently looked up and not found
+     */
+    public boolean isMissing(Class<?> type, Object id) {
+        return nearCache().get(key(type, id)) != null;
+    }
+
+    /**
+     * Records that an entity does not exist.
+     *
+     * @param type the entity type
+     * @param id the entity ID
+     */
+    public void markMissing(Class<?> type, Object id) {
+        nearCache().put(key(type, id), Boolean.TRUE);
+    }
+
+    /**
+     * Forgets that an entity was missing, typically because it has just been created.
+     *
+     * @param type the entity type
+     * @param id the entity ID
+     */
+    public void forget(Class<?> type, Object id) {
+        cache().evict(key(type, id));
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private Cache nearCache() {
+        Cache cache = cache();
+        return cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache.getNearCache() : cache;
+    }
+
+    private static String key(Class<?> type, Object id) {
+        return type.getSimpleName() + ":" + id;
+    }
+}
@@ -0,0 +1,53 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+
+import java.util.Collection;
+
+/**
+ * Weighs cache entries by the approximate heap size of their value in bytes, so a cache holding a
+ * whole roster under one key is bounded by memory rather than by its number of entries.
+ */
+public class PayloadWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final int REFERENCE_SIZE = 8;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, sizeOf(value));
+    }
+
+    /**
+     * Estimates the heap size of a cached value.
+     *
+     * @param value the value
+     * @return the estimated size in bytes
+     */
+    static long sizeOf(Object value) {
+        if (value instanceof String string) {
+            return OBJECT_OVERHEAD * 2 + string.length();
+        }
+        if (value instanceof StudentDTO student) {
+            return OBJECT_OVERHEAD + REFERENCE_SIZE * 5 + OBJECT_OVERHEAD
+                    + sizeOf(student.getFirstName()) + sizeOf(student.getLastName()) + sizeOf(student.getEmail())
+                    + sizeOf(student.getCourses());
+        }
+        if (value instanceof CourseDTO course) {
+            return OBJECT_OVERHEAD + REFERENCE_SIZE * 4
+                    + sizeOf(course.getCode()) + sizeOf(course.getTitle()) + sizeOf(course.getDescription())
+                    + sizeOf(course.getStudents());
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_OVERHEAD * 2 + (long) REFERENCE_SIZE * collection.size();
+            for (Object element : collection) {
+                size += sizeOf(element);
+            }
+            return size;
+        }
+        return value == null ? 0 : OBJECT_OVERHEAD;
+    }
+}
@@ -0,0 +1,118 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of encoded JSON response bodies.
+ * <p>
+ * Entries are keyed by the identity of the body object, with weak keys. A cached service method
+ * returns the same instance for as long as its cache entry lives, so the encoded bytes are reused until
+ * that entry is evicted, replaced or refreshed. The bytes are then dropped together with the old
+ * instance, which ties them to the same invalidations as the service caches without tracking any keys
+ * here.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final long MAXIMUM_BYTES = 32 * 1024 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<Object, EncodedBody> bodies = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(MAXIMUM_BYTES)
+            .<Object, EncodedBody>weigher((body, encoded) -> encoded.weight())
+            .recordStats()
+            .build();
+
+    public ResponseBodyCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the encoded form of a body, encoding it only the first time this instance is seen.
+     *
+     * @param body the response body
+     * @return the encoded body
+     */
+    public EncodedBody encode(Object body) {
+        return bodies.get(body, this::toJson);
+    }
+
+    /**
+     * @return the number of cached bodies
+     */
+    public long size() {
+        bodies.cleanUp();
+        return bodies.estimatedSize();
+    }
+
+    private EncodedBody toJson(Object body) {
+        try {
+            return new EncodedBody(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode response body", ex);
+        }
+    }
+
+    /**
+     * The JSON bytes of a response body and, computed on first use, their gzip compressed form.
+     */
+    public static final class EncodedBody {
+
+        /** Bodies smaller than this are not worth compressing. */
+        private static final int MINIMUM_GZIP_SIZE = 2048;
+
+        private final byte[] json;
+
+        private volatile byte[] gzip;
+
+        EncodedBody(byte[] json) {
+            this.json = json;
+        }
+
+        public byte[] json() {
+            return json;
+        }
+
+        /**
+         * @return whether the body is large enough to be sent compressed
+         */
+        public boolean isCompressible() {
+            return json.length >= MINIMUM_GZIP_SIZE;
+        }
+
+        public byte[] gzip() {
+            byte[] compressed = gzip;
+            if (compressed == null) {
+                compressed = compress(json);
+                gzip = compressed;
+            }
+            return compressed;
+        }
+
+        int weight() {
+            // Reserve room for the compressed copy, which is much smaller than the JSON
+            return json.length + json.length / 4;
+        }
+
+        private static byte[] compress(byte[] bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(bytes);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return out.toByteArray();
+        }
+    }
+}
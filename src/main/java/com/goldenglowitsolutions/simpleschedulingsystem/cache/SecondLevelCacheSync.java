@@ -0,0 +1,69 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import static com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator.COURSE_STUDENTS_ROLE;
+import static com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator.STUDENT_COURSES_ROLE;
+
+/**
+ * Evicts Hibernate's second-level cache when another node invalidates a Spring cache entry.
+ * <p>
+ * Each node has its own second-level cache, and Hibernate only keeps it current for writes made on
+ * that node. The Spring cache entries are reloaded through the repositories, so without this a node
+ * would rebuild an entry invalidated elsewhere from its own stale entity or collection. Every Spring
+ * cache key maps to the entities and collections its value is built from:
+ * <ul>
+ *     <li>{@code students}: the student and their courses, by student ID</li>
+ *     <li>{@code courses}: the course and its students, by course code</li>
+ *     <li>{@code studentCourses}: the student's courses</li>
+ *     <li>{@code courseStudents}, {@code courseRosters}: the course and its students</li>
+ * </ul>
+ */
+@Component
+public class SecondLevelCacheSync {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheSync(EntityManagerFactory entityManagerFactory, CacheManager cacheManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            twoLevelCacheManager.addRemoteInvalidationListener(this::onRemoteInvalidation);
+        }
+    }
+
+    void onRemoteInvalidation(CacheInvalidation invalidation) {
+        Object key = invalidation.getKey();
+        switch (invalidation.getCacheName()) {
+            case "students", "studentCourses" -> {
+                if (invalidation.isClear()) {
+                    secondLevelCache().evictEntityData(Student.class);
+                    secondLevelCache().evictCollectionData(STUDENT_COURSES_ROLE);
+                } else if (key instanceof Long studentId) {
+                    secondLevelCache().evictEntityData(Student.class, studentId);
+                    secondLevelCache().evictCollectionData(STUDENT_COURSES_ROLE, studentId);
+                }
+            }
+            case "courses", "courseStudents", "courseRosters" -> {
+                if (invalidation.isClear()) {
+                    secondLevelCache().evictEntityData(Course.class);
+                    secondLevelCache().evictCollectionData(COURSE_STUDENTS_ROLE);
+                } else if (key instanceof String courseCode) {
+                    secondLevelCache().evictEntityData(Course.class, courseCode);
+                    secondLevelCache().evictCollectionData(COURSE_STUDENTS_ROLE, courseCode);
+                }
+            }
+            default -> {
+                // The roster, catalog, negative entries and version counters are not built from cached entities
+            }
+        }
+    }
+
+    private Cache secondLevelCache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+}
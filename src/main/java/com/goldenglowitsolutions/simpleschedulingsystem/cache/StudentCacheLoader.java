@@ -0,0 +1,37 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+
+/**
+ * Refreshes entries of the {@code studentRoster} and {@code students} caches in the background.
+ * Misses are left to the cached methods, which check the negative cache and the shared tier first.
+ */
+public class StudentCacheLoader implements CacheLoader<Object, Object> {
+
+    private final StudentRepository studentRepository;
+
+    public StudentCacheLoader(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @Override
+    public Object load(Object key) {
+        return null;
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        if ("all".equals(key)) {
+            return studentRepository.findAllDTOs();
+        }
+        if (key instanceof Long id) {
+            return studentRepository.findById(id)
+                    .map(student -> new StudentDTO(student.getId(), student.getFirstName(),
+                            student.getLastName(), student.getEmail()))
+                    .orElse(null);
+        }
+        return oldValue;
+    }
+}
@@ -0,0 +1,158 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A cache with a per-node near tier in front of an optional tier shared by all nodes.
+ * <p>
+ * Reads go to the near tier first, then to the shared tier, and fill the near tier on the way back.
+ * Writes go to both tiers and publish a {@link CacheInvalidation}, so the other nodes drop their
+ * near copy and read the new value from the shared tier or the database on their next access.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache near;
+
+    private final Cache shared;
+
+    private final CacheInvalidationBus bus;
+
+    private final String nodeId;
+
+    /**
+     * @param near the cache of this node
+     * @param shared the cache shared by all nodes, or null to use the near cache only
+     * @param bus the bus invalidations are published to
+     * @param nodeId the ID of this node
+     */
+    public TwoLevelCache(Cache near, Cache shared, CacheInvalidationBus bus, String nodeId) {
+        this.near = near;
+        this.shared = shared;
+        this.bus = bus;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public String getName() {
+        return near.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return near.getNativeCache();
+    }
+
+    /**
+     * @return the cache of this node
+     */
+    public Cache getNearCache() {
+        return near;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = near.get(key);
+        if (value == null && shared != null) {
+            value = shared.get(key);
+            if (value != null) {
+                near.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        @SuppressWarnings("unchecked")
+        T typed = (T) stored;
+        return typed;
+    }
+
+    /**
+     * Returns the cached value or loads it, running at most one loader per key on this node.
+     * <p>
+     * Concurrent callers for the same key wait for the running loader instead of starting their own,
+     * which is what {@code @Cacheable(sync = true)} relies on.
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (shared == null) {
+            return near.get(key, valueLoader);
+        }
+        return near.get(key, () -> {
+            try {
+                return shared.get(key, valueLoader);
+            } catch (ValueRetrievalException ex) {
+                // Let the near cache wrap the loader's own exception rather than the shared tier's wrapper
+                if (ex.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (shared != null) {
+            shared.put(key, value);
+        }
+        near.put(key, value);
+        publish(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (shared != null) {
+            shared.evict(key);
+        }
+        near.evict(key);
+        publish(key);
+    }
+
+    @Override
+    public void clear() {
+        if (shared != null) {
+            shared.clear();
+        }
+        near.clear();
+        publish(null);
+    }
+
+    /**
+     * Applies an invalidation published by another node to the near tier.
+     *
+     * @param invalidation the invalidation
+     */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.isClear()) {
+            near.clear();
+        } else {
+            near.evict(invalidation.getKey());
+        }
+    }
+
+    private void publish(Object key) {
+        bus.publish(new CacheInvalidation(nodeId, getName(), key));
+    }
+}
@@ -0,0 +1,95 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheManager} combining a near cache manager of this node with an optional shared one.
+ * <p>
+ * Every cache of the near manager is wrapped in a {@link TwoLevelCache}. The manager subscribes to the
+ * {@link CacheInvalidationBus} and evicts its near caches when another node changes an entry, so an
+ * update on one node is not served stale by the others until their entries expire. Caches the near
+ * caches are loaded from, such as Hibernate's second-level cache, register with
+ * {@link #addRemoteInvalidationListener} to be evicted first.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager near;
+
+    private final CacheManager shared;
+
+    private final CacheInvalidationBus bus;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final List<Consumer<CacheInvalidation>> remoteInvalidationListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param near the cache manager of this node, which also defines the available caches
+     * @param shared the cache manager shared by all nodes, or null to use near caches only
+     * @param bus the bus used to exchange invalidations with the other nodes
+     */
+    public TwoLevelCacheManager(CacheManager near, CacheManager shared, CacheInvalidationBus bus) {
+        this.near = near;
+        this.shared = shared;
+        this.bus = bus;
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache nearCache = near.getCache(name);
+        if (nearCache == null) {
+            return null;
+        }
+        Cache sharedCache = shared != null ? shared.getCache(name) : null;
+        return caches.computeIfAbsent(name, n -> new TwoLevelCache(nearCache, sharedCache, bus, nodeId));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return near.getCacheNames();
+    }
+
+    /**
+     * @return the ID this node stamps on the invalidations it publishes
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Registers a callback for invalidations published by other nodes. Callbacks run before the near
+     * cache is evicted, so an entry reloaded right after the eviction does not come from stale data.
+     *
+     * @param listener the callback
+     */
+    public void addRemoteInvalidationListener(Consumer<CacheInvalidation> listener) {
+        remoteInvalidationListeners.add(listener);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+        remoteInvalidationListeners.forEach(listener -> listener.accept(invalidation));
+        TwoLevelCache cache = (TwoLevelCache) getCache(invalidation.getCacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET controller method whose response only changes when the listed data changes. The
+ * response carries an ETag built from their {@link DataVersions}, and a matching
+ * {@code If-None-Match} is answered with 304 before the method runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface VersionedBy {
+
+    /**
+     * @return the data the response is built from
+     */
+    DataVersions.Aggregate[] value();
+}
@@ -0,0 +1,234 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.changelog;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.RosterChangeDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChangeWatermark;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.BadRequestException;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.ChangeTokenExpiredException;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.RosterChangeRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.RosterChangeWatermarkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Monotonic log of roster changes backing the change feed.
+ * <p>
+ * Services record entries in the transaction of every student, course and enrollment change. The
+ * entries are held back until the transaction is about to commit, then stamped with the next commit
+ * position from the {@link RosterChangeWatermark} and inserted in one batch. The watermark stays locked
+ * until the commit, so positions follow commit order and a reader never sees a position before all
+ * lower ones, however long the transactions ran or whatever the clocks of the nodes say.
+ * <p>
+ * A client mirroring the roster keeps the token of the last page it read and asks for the changes
+ * after it. A token encodes the commit position and ID of the last entry read and the time the client
+ * has seen the log up to. Entries older than the retention period are deleted, and a token from before
+ * that point is answered with 410 Gone because changes after it may have been lost.
+ */
+@Component
+public class RosterChangeLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(RosterChangeLog.class);
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final RosterChangeRepository rosterChangeRepository;
+
+    private final RosterChangeWatermarkRepository watermarkRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration retention;
+
+    public RosterChangeLog(RosterChangeRepository rosterChangeRepository,
+                           RosterChangeWatermarkRepository watermarkRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.changes.retention:7d}") Duration retention) {
+        this.rosterChangeRepository = rosterChangeRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+    }
+
+    /**
+     * Creates the watermark row on first startup.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void createWatermark() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!watermarkRepository.existsById(RosterChangeWatermark.ID)) {
+                    watermarkRepository.save(new RosterChangeWatermark(RosterChangeWatermark.ID));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Roster change watermark was created by another instance", e);
+        }
+    }
+
+    /**
+     * Records a change in the current transaction.
+     *
+     * @param type the kind of change
+     * @param studentId the changed student, or null
+     * @param courseCode the changed course, or null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(RosterChange.Type type, Long studentId, String courseCode) {
+        pendingChanges().add(new RosterChange(type, studentId, courseCode));
+    }
+
+    /**
+     * Records several changes in the current transaction.
+     *
+     * @param changes the changes
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<RosterChange> changes) {
+        pendingChanges().addAll(changes);
+    }
+
+    /**
+     * Lists the changes after a token.
+     *
+     * @param token the token of the last page read, or null to get a token for the current state
+     * @param limit the maximum number of changes
+     * @return the changes, with the token to pass back for the following ones
+     * @throws BadRequestException if the token is malformed or the limit is out of range
+     * @throws ChangeTokenExpiredException if the changes after the token are no longer retained
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<RosterChangeDTO> changesSince(String token, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        Instant now = Instant.now();
+
+        if (token == null || token.isBlank()) {
+            String currentToken = rosterChangeRepository.findFirstByCommitPositionNotNullOrderByCommitPositionDescIdDesc()
+                    .map(last -> encodeToken(last.getCommitPosition(), last.getId(), now))
+                    .orElseGet(() -> encodeToken(0, 0, now));
+            return new CursorPageDTO<>(List.of(), currentToken, false);
+        }
+
+        long[] position = decodeToken(token);
+        if (Instant.ofEpochMilli(position[2]).isBefore(now.minus(retention))) {
+            throw new ChangeTokenExpiredException("Change token has expired, reload the full roster");
+        }
+
+        List<RosterChange> changes = rosterChangeRepository.findAfter(position[0], position[1], Limit.of(limit + 1));
+        boolean hasMore = changes.size() > limit;
+        if (hasMore) {
+            changes = changes.subList(0, limit);
+        }
+
+        String nextToken;
+        if (changes.isEmpty()) {
+            nextToken = encodeToken(position[0], position[1], now);
+        } else {
+            RosterChange last = changes.get(changes.size() - 1);
+            // Caught up: every committed entry has been read
+            nextToken = encodeToken(last.getCommitPosition(), last.getId(), hasMore ? last.getChangedAt() : now);
+        }
+        return new CursorPageDTO<>(changes.stream().map(this::convertToDTO).collect(Collectors.toList()),
+                nextToken, hasMore);
+    }
+
+    /**
+     * Deletes the changes older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.changes.compaction-interval:PT1H}", initialDelayString = "${app.changes.compaction-interval:PT1H}")
+    @Transactional
+    public void compact() {
+        int deleted = rosterChangeRepository.deleteChangedBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            logger.info("Compacted {} roster changes older than {}", deleted, retention);
+        }
+    }
+
+    private RosterChangeDTO convertToDTO(RosterChange change) {
+        return new RosterChangeDTO(change.getType(), change.getStudentId(), change.getCourseCode(),
+                change.getChangedAt());
+    }
+
+    /**
+     * Entries recorded in the current transaction, written when it is about to commit.
+     */
+    @SuppressWarnings("unchecked")
+    private List<RosterChange> pendingChanges() {
+        List<RosterChange> pending = (List<RosterChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<RosterChange> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeChanges(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RosterChangeLog.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+
+    private void writeChanges(List<RosterChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        // Held until the commit, so the next transaction only gets a position after this one is visible
+        RosterChangeWatermark watermark = watermarkRepository.findForUpdate(RosterChangeWatermark.ID)
+                .orElseThrow(() -> new IllegalStateException("Roster change watermark is missing"));
+        long commitPosition = watermark.getPosition() + 1;
+        watermark.setPosition(commitPosition);
+        Instant now = Instant.now();
+        changes.forEach(change -> {
+            change.setCommitPosition(commitPosition);
+            change.setChangedAt(now);
+        });
+        rosterChangeRepository.saveAll(changes);
+    }
+
+    private static String encodeToken(long commitPosition, long lastId, Instant seenUntil) {
+        String position = commitPosition + ":" + lastId + ":" + seenUntil.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] decodeToken(String token) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (position.length != 3) {
+                throw new IllegalArgumentException("Expected three parts");
+            }
+            return new long[] {Long.parseLong(position[0]), Long.parseLong(position[1]), Long.parseLong(position[2])};
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid change token: " + token, e);
+        }
+    }
+}
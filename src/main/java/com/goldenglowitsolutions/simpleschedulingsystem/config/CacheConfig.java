@@ -1,44 +1,141 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidationBus;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CourseCacheLoader;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.InMemoryCacheInvalidationBus;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.PayloadWeigher;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.StudentCacheLoader;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.TwoLevelCacheManager;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.Collections;
 
 /**
  * Configuration for caching.
+ * <p>
+ * Every cache has its own memory budget, weighed by payload size and configurable with
+ * {@code app.cache.<name>.max-bytes}, and its own time to live. The full student roster lives in its
+ * own {@code studentRoster} cache, so a large roster cannot push single students out of theirs, and
+ * the full catalog likewise lives in {@code courseCatalog} rather than next to single courses. The
+ * student and course caches also refresh entries in the background once they are older than the
+ * refresh interval, so hot keys such as the full roster are reloaded while the old value keeps being
+ * served instead of expiring and sending every caller to the database at once.
+ * <p>
+ * These Caffeine caches are the near tier of a {@link TwoLevelCacheManager}. Writes are broadcast on
+ * the {@link CacheInvalidationBus}, so other instances behind the load balancer drop their copy. The
+ * optional shared tier is an in-JVM stand-in for a store shared by all instances.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final long MEGABYTE = 1024 * 1024;
+
+    // missingEntities is left out: negative entries are node-local and only bounded in the near tier
+    private static final String[] SHARED_CACHE_NAMES =
+            {"students", "studentRoster", "courses", "courseCatalog", "studentCourses", "courseStudents", "courseRosters"};
+
+    private final Environment environment;
+
+    public CacheConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Bus used to tell the other instances about cache writes. Replace this bean with a networked
+     * implementation when running several instances.
+     *
+     * @return the cache invalidation bus
+     */
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InMemoryCacheInvalidationBus();
+    }
+
     /**
      * Cache manager for the application.
      *
+     * @param studentRepository the student repository used to refresh student entries
+     * @param courseRepository the course repository used to refresh course entries
+     * @param cacheInvalidationBus the bus cache writes are broadcast on
+     * @param sharedTierEnabled whether to put a shared tier behind the near caches
      * @return the cache manager
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-                "students", "courses", "studentCourses", "courseStudents");
-        cacheManager.setCaffeine(caffeineCacheBuilder());
+    public CacheManager cacheManager(StudentRepository studentRepository, CourseRepository courseRepository,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${app.cache.shared-tier.enabled:false}") boolean sharedTierEnabled) {
+        CacheManager sharedCacheManager = sharedTierEnabled ? new ConcurrentMapCacheManager(SHARED_CACHE_NAMES) : null;
+        return new TwoLevelCacheManager(nearCacheManager(studentRepository, courseRepository),
+                sharedCacheManager, cacheInvalidationBus);
+    }
+
+    /**
+     * Caffeine cache manager holding the caches of this instance.
+     *
+     * @param studentRepository the student repository used to refresh student entries
+     * @param courseRepository the course repository used to refresh course entries
+     * @return the near cache manager
+     */
+    private CacheManager nearCacheManager(StudentRepository studentRepository, CourseRepository courseRepository) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // No names up front keeps the manager static: only the caches registered below exist
+        cacheManager.setCacheNames(Collections.emptyList());
+
+        cacheManager.registerCustomCache("students", cachePolicy("students", 32 * MEGABYTE, Duration.ofMinutes(30))
+                .refreshAfterWrite(Duration.ofMinutes(5))
+                .build(new StudentCacheLoader(studentRepository)));
+        cacheManager.registerCustomCache("studentRoster", cachePolicy("studentRoster", 64 * MEGABYTE, Duration.ofMinutes(30))
+                .refreshAfterWrite(Duration.ofMinutes(5))
+                .build(new StudentCacheLoader(studentRepository)));
+        cacheManager.registerCustomCache("courses", cachePolicy("courses", 8 * MEGABYTE, Duration.ofHours(1))
+                .refreshAfterWrite(Duration.ofMinutes(10))
+                .build(CourseCacheLoader.forCourses(courseRepository)));
+        cacheManager.registerCustomCache("courseCatalog", cachePolicy("courseCatalog", 8 * MEGABYTE, Duration.ofHours(1))
+                .refreshAfterWrite(Duration.ofMinutes(10))
+                .build(CourseCacheLoader.forCatalog(courseRepository)));
+        cacheManager.registerCustomCache("studentCourses",
+                cachePolicy("studentCourses", 16 * MEGABYTE, Duration.ofMinutes(10)).build());
+        cacheManager.registerCustomCache("courseStudents",
+                cachePolicy("courseStudents", 16 * MEGABYTE, Duration.ofMinutes(10)).build());
+        cacheManager.registerCustomCache("courseRosters",
+                cachePolicy("courseRosters", 16 * MEGABYTE, Duration.ofMinutes(10)).build());
+        // Keys of students and courses that were not found; short-lived so new rows show up quickly
+        cacheManager.registerCustomCache("missingEntities", Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .recordStats()
+                .build());
         return cacheManager;
     }
 
     /**
-     * Configures Caffeine cache.
+     * Configures a Caffeine cache bounded by the approximate size of its values.
      *
+     * @param cacheName the name of the cache, used to look up {@code app.cache.<name>.max-bytes}
+     * @param defaultMaximumBytes the memory budget of the cache when none is configured
+     * @param timeToLive how long an entry lives after it was written
      * @return the Caffeine cache builder
      */
-    private Caffeine<Object, Object> caffeineCacheBuilder() {
+    private Caffeine<Object, Object> cachePolicy(String cacheName, long defaultMaximumBytes, Duration timeToLive) {
+        String configured = environment.getProperty("app.cache." + cacheName + ".max-bytes");
+        long maximumBytes = configured != null ? DataSize.parse(configured).toBytes() : defaultMaximumBytes;
         return Caffeine.newBuilder()
-                .initialCapacity(100)
-                .maximumSize(500)
-                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .maximumWeight(maximumBytes)
+                .weigher(new PayloadWeigher())
+                .expireAfterWrite(timeToLive)
                 .recordStats();
     }
-} 
\ No newline at end of file
+}
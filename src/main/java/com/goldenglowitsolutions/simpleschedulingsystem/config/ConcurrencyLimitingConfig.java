@@ -0,0 +1,60 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.config;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration for adaptive concurrency limiting.
+ * The limit adapts to observed latency, so requests are shed before they pile up on server threads.
+ */
+@Configuration
+public class ConcurrencyLimitingConfig {
+
+    @Value("${app.concurrency.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${app.concurrency.min-limit:4}")
+    private int minLimit;
+
+    @Value("${app.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${app.concurrency.bulk-share:0.5}")
+    private double bulkShare;
+
+    @Value("${app.concurrency.tolerance:1.5}")
+    private double tolerance;
+
+    @Value("${app.concurrency.window:1s}")
+    private Duration window;
+
+    /**
+     * Creates the concurrency limiter and publishes its limit, in-flight requests and shed requests
+     * as {@code concurrency.limit}, {@code concurrency.inflight} and {@code concurrency.shed}.
+     *
+     * @param registry the meter registry
+     * @return the concurrency limiter
+     */
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(MeterRegistry registry) {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, bulkShare, tolerance, window);
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Requests allowed in flight")
+                .register(registry);
+        Gauge.builder("concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests in flight")
+                .register(registry);
+        FunctionCounter.builder("concurrency.shed", limiter, AdaptiveConcurrencyLimiter::getShed)
+                .description("Requests rejected because too many were in flight")
+                .register(registry);
+        return limiter;
+    }
+}
@@ -1,7 +1,20 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.config;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.TwoLevelCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -23,4 +36,66 @@ public class MetricsConfig {
     public TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Exposes hit, miss and put counts plus the hit ratio of every Hibernate second-level cache region,
+     * tagged with the region name. Requires {@code hibernate.generate_statistics}.
+     *
+     * @param entityManagerFactory the entity manager factory
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                FunctionCounter.builder("hibernate.second.level.cache.requests", regionStatistics,
+                                CacheRegionStatistics::getHitCount)
+                        .tags("region", region, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.second.level.cache.requests", regionStatistics,
+                                CacheRegionStatistics::getMissCount)
+                        .tags("region", region, "result", "miss")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.second.level.cache.puts", regionStatistics,
+                                CacheRegionStatistics::getPutCount)
+                        .tags("region", region)
+                        .register(registry);
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", regionStatistics, MetricsConfig::hitRatio)
+                        .tags("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    /**
+     * Exposes hit, miss, eviction, load time and size metrics of every application cache, tagged with
+     * the cache name. The Caffeine caches are registered as custom caches and sit behind a
+     * {@link TwoLevelCache}, so they are bound here explicitly instead of relying on the caches Spring
+     * Boot discovers on its own.
+     *
+     * @param cacheManager the cache manager
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder cacheMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache instanceof TwoLevelCache twoLevelCache) {
+                    cache = twoLevelCache.getNearCache();
+                }
+                if (cache instanceof CaffeineCache caffeineCache) {
+                    new CaffeineCacheMetrics<>(caffeineCache.getNativeCache(), name,
+                            Tags.of("cache.manager", "cacheManager")).bindTo(registry);
+                }
+            }
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests == 0 ? 0 : (double) statistics.getHitCount() / requests;
+    }
+}
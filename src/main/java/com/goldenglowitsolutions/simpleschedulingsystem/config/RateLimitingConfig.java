@@ -1,15 +1,22 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.BucketStore;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.InMemoryBucketStore;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.PrefetchingBucket;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.RateLimitAlgorithm;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.RateLimitBucket;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
 
 import java.time.Duration;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Configuration for API rate limiting.
- * Uses a simple implementation with AtomicInteger since Bucket4j dependency has issues.
+ * Every client gets its own lock-free {@link RateLimitBucket}, so one noisy client cannot use up the budget of the others.
  */
 @Configuration
 public class RateLimitingConfig {
@@ -20,73 +27,130 @@ public class RateLimitingConfig {
     @Value("${app.ratelimiting.period-minutes:1}")
     private int periodMinutes;
 
+    @Value("${app.ratelimiting.algorithm:fixed-window}")
+    private RateLimitAlgorithm algorithm;
+
+    // Requests a client may send back to back; defaults to the capacity
+    @Value("${app.ratelimiting.burst:0}")
+    private int burst;
+
+    @Value("${app.ratelimiting.max-clients:100000}")
+    private long maxClients;
+
+    @Value("${app.ratelimiting.shared-store.enabled:false}")
+    private boolean sharedStoreEnabled;
+
+    @Value("${app.ratelimiting.shared-store.prefetch:5}")
+    private int prefetch;
+
+    /**
+     * Creates the store holding the buckets shared by all nodes when {@code app.ratelimiting.shared-store.enabled}
+     * is set. This in-JVM store is a stand-in; replace this bean with a networked implementation to share
+     * budgets between instances.
+     *
+     * @return the bucket store
+     */
+    @Bean
+    public BucketStore bucketStore() {
+        return new InMemoryBucketStore(algorithm, capacity, effectiveBurst(), Duration.ofMinutes(periodMinutes), maxClients);
+    }
+
     /**
-     * Creates a rate limiting container that allows a configurable number of requests per minute.
+     * Creates a rate limiting container that allows a configurable number of requests per minute per client.
      *
+     * @param bucketStore the shared bucket store
      * @return the rate limiting container
      */
     @Bean
-    public RateLimitingContainer rateLimitingContainer() {
-        return new RateLimitingContainer(capacity, periodMinutes);
+    public RateLimitingContainer rateLimitingContainer(BucketStore bucketStore) {
+        return new RateLimitingContainer(algorithm, capacity, effectiveBurst(), periodMinutes, maxClients,
+                sharedStoreEnabled ? bucketStore : null, prefetch);
+    }
+
+    private int effectiveBurst() {
+        return algorithm == RateLimitAlgorithm.FIXED_WINDOW || burst <= 0 ? capacity : burst;
     }
 
     /**
-     * Simple container class for rate limiting.
+     * Container holding one token bucket per client.
+     * <p>
+     * Buckets are kept in a size-bounded Caffeine map and dropped once a client has been idle long
+     * enough for its bucket to be full again, so expiry never grants a client more than a fresh bucket.
+     * With a shared {@link BucketStore} the local buckets are {@link PrefetchingBucket}s handing out
+     * batches of tokens taken from the store, so the budget applies across all nodes.
      */
     public static class RateLimitingContainer {
-        private final AtomicInteger tokens;
+        private final Cache<String, RateLimitBucket> buckets;
+        private final RateLimitAlgorithm algorithm;
         private final int capacity;
+        private final int burst;
         private final int periodMinutes;
-        private long lastRefillTimestamp;
+        private final Duration period;
+        private final BucketStore sharedStore;
+        private final int prefetch;
 
-        public RateLimitingContainer(int capacity, int periodMinutes) {
-            this.tokens = new AtomicInteger(capacity);
+        public RateLimitingContainer(RateLimitAlgorithm algorithm, int capacity, int burst, int periodMinutes, long maxClients) {
+            this(algorithm, capacity, burst, periodMinutes, maxClients, null, 1);
+        }
+
+        public RateLimitingContainer(RateLimitAlgorithm algorithm, int capacity, int burst, int periodMinutes, long maxClients,
+                                     @Nullable BucketStore sharedStore, int prefetch) {
+            this.algorithm = algorithm;
             this.capacity = capacity;
+            // A fixed window can only ever hold its capacity
+            this.burst = algorithm == RateLimitAlgorithm.FIXED_WINDOW ? capacity : burst;
             this.periodMinutes = periodMinutes;
-            this.lastRefillTimestamp = System.currentTimeMillis();
+            this.period = Duration.ofMinutes(periodMinutes);
+            this.sharedStore = sharedStore;
+            this.prefetch = prefetch;
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxClients)
+                    .expireAfterAccess(algorithm.refillTime(capacity, this.burst, period))
+                    .build();
         }
 
         /**
-         * Try to consume a token from the bucket.
+         * Try to consume tokens from a client's bucket.
          *
+         * @param clientKey the client
          * @param tokenCount number of tokens to consume
          * @return true if successful, false otherwise
          */
-        public synchronized boolean tryConsume(int tokenCount) {
-            refillIfNeeded();
-            int currentTokens = tokens.get();
-            if (currentTokens >= tokenCount) {
-                return tokens.compareAndSet(currentTokens, currentTokens - tokenCount);
-            }
-            return false;
+        public boolean tryConsume(String clientKey, int tokenCount) {
+            return buckets.get(clientKey, this::newBucket).tryConsume(tokenCount);
+        }
+
+        private RateLimitBucket newBucket(String clientKey) {
+            return sharedStore == null
+                    ? algorithm.newBucket(capacity, burst, period)
+                    : new PrefetchingBucket(sharedStore, clientKey, capacity, prefetch);
         }
 
         /**
-         * Get the available tokens.
+         * Get the available tokens of a client.
          *
+         * @param clientKey the client
          * @return number of available tokens
          */
-        public synchronized int getAvailableTokens() {
-            refillIfNeeded();
-            return tokens.get();
+        public int getAvailableTokens(String clientKey) {
+            RateLimitBucket bucket = buckets.getIfPresent(clientKey);
+            if (bucket != null) {
+                return bucket.getAvailableTokens();
+            }
+            return sharedStore == null ? burst : sharedStore.getAvailableTokens(clientKey);
         }
 
         /**
-         * Refill the tokens if the refill period has elapsed.
+         * Get the number of clients that currently have a bucket.
+         *
+         * @return the approximate number of tracked clients
          */
-        private void refillIfNeeded() {
-            long now = System.currentTimeMillis();
-            long millisSinceLastRefill = now - lastRefillTimestamp;
-            long refillPeriodMillis = Duration.ofMinutes(periodMinutes).toMillis();
-            
-            if (millisSinceLastRefill >= refillPeriodMillis) {
-                tokens.set(capacity);
-                lastRefillTimestamp = now;
-            }
+        public long getTrackedClients() {
+            return buckets.estimatedSize();
         }
 
         /**
-         * Get the capacity of the container.
+         * Get the number of tokens granted per period.
          *
          * @return the capacity
          */
@@ -94,6 +158,33 @@ public class RateLimitingConfig {
             return capacity;
         }
 
+        /**
+         * Get the number of tokens a client can consume back to back.
+         *
+         * @return the burst size
+         */
+        public int getBurst() {
+            return burst;
+        }
+
+        /**
+         * Whether the budgets are shared with other nodes through a {@link BucketStore}.
+         *
+         * @return true if a shared store is used
+         */
+        public boolean isShared() {
+            return sharedStore != null;
+        }
+
+        /**
+         * Get the refill algorithm.
+         *
+         * @return the algorithm
+         */
+        public RateLimitAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
         /**
          * Get the refill period in minutes.
          *
@@ -103,4 +194,4 @@ public class RateLimitingConfig {
             return periodMinutes;
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.config;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.interceptor.ConcurrencyLimitingInterceptor;
+import com.goldenglowitsolutions.simpleschedulingsystem.interceptor.ConditionalGetInterceptor;
 import com.goldenglowitsolutions.simpleschedulingsystem.interceptor.RateLimitingInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
@@ -13,12 +15,24 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final ConcurrencyLimitingInterceptor concurrencyLimitingInterceptor;
+
     private final RateLimitingInterceptor rateLimitingInterceptor;
 
+    private final ConditionalGetInterceptor conditionalGetInterceptor;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // Shed load before anything else, so rejected requests consume no rate limiting tokens
+        registry.addInterceptor(concurrencyLimitingInterceptor)
+                .addPathPatterns("/**");
+
         // Register rate limiting interceptor for all API endpoints
         registry.addInterceptor(rateLimitingInterceptor)
+                .addPathPatterns("/students/**", "/courses/**", "/enrollments/**");
+
+        // Answer conditional GETs from version counters once the request has been admitted
+        registry.addInterceptor(conditionalGetInterceptor)
                 .addPathPatterns("/students/**", "/courses/**");
     }
 } 
\ No newline at end of file
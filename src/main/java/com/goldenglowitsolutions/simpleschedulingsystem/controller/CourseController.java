@@ -1,9 +1,21 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.controller;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CachedResponse;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.VersionedBy;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.RateLimitCost;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.SheddingPriority;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.CourseService;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,10 +32,12 @@ public class CourseController {
 
     private final CourseService courseService;
     private final StudentService studentService;
+    private final NegativeCache negativeCache;
 
-    public CourseController(CourseService courseService, StudentService studentService) {
+    public CourseController(CourseService courseService, StudentService studentService, NegativeCache negativeCache) {
         this.courseService = courseService;
         this.studentService = studentService;
+        this.negativeCache = negativeCache;
     }
 
     /**
@@ -32,11 +46,31 @@ public class CourseController {
      * @return the ResponseEntity with status 200 (OK) and the list of courses
      */
     @GetMapping
+    @CachedResponse
+    @VersionedBy(Aggregate.COURSES)
+    @RateLimitCost(2)
+    @SheddingPriority(Priority.BULK)
     public ResponseEntity<List<CourseDTO>> getAllCourses() {
         List<CourseDTO> courses = courseService.getAllCourses();
         return ResponseEntity.ok(courses);
     }
 
+    /**
+     * GET /courses/search : Search courses by title and description, most relevant first
+     *
+     * @param query the search query
+     * @param pageable the pagination information; sorting is by relevance
+     * @return the ResponseEntity with status 200 (OK) and the page of matching courses
+     */
+    @GetMapping("/search")
+    @RateLimitCost(3)
+    public ResponseEntity<Page<CourseDTO>> searchCourses(
+            @RequestParam String query,
+            @PageableDefault(size = 10) Pageable pageable) {
+        Page<CourseDTO> courses = courseService.searchCourses(query, pageable);
+        return ResponseEntity.ok(courses);
+    }
+
     /**
      * GET /courses/{code} : Get a course by code
      *
@@ -44,7 +78,12 @@ public class CourseController {
      * @return the ResponseEntity with status 200 (OK) and the course, or status 404 (Not Found)
      */
     @GetMapping("/{code}")
+    @CachedResponse
     public ResponseEntity<CourseDTO> getCourseByCode(@PathVariable String code) {
+        // Checked before the cached service so known-missing codes never reach the cache's exception wrapping
+        if (negativeCache.isMissing(Course.class, code)) {
+            throw new EntityNotFoundException("Course not found with code: " + code, false);
+        }
         CourseDTO course = courseService.getCourseByCode(code);
         return ResponseEntity.ok(course);
     }
@@ -93,6 +132,8 @@ public class CourseController {
      * @return the ResponseEntity with status 200 (OK) and the course with students
      */
     @GetMapping("/{code}/students")
+    @CachedResponse
+    @VersionedBy({Aggregate.COURSES, Aggregate.STUDENTS, Aggregate.ENROLLMENTS})
     public ResponseEntity<CourseDTO> getCourseStudents(@PathVariable String code) {
         CourseDTO course = courseService.getCourseWithStudents(code);
         return ResponseEntity.ok(course);
@@ -117,6 +158,7 @@ public class CourseController {
      * @return the ResponseEntity with status 200 (OK) and the list of courses
      */
     @GetMapping("/not-taken/{studentId}")
+    @RateLimitCost(2)
     public ResponseEntity<List<CourseDTO>> getCoursesNotTakenByStudent(@PathVariable Long studentId) {
         List<CourseDTO> courses = courseService.getCoursesNotTakenByStudent(studentId);
         return ResponseEntity.ok(courses);
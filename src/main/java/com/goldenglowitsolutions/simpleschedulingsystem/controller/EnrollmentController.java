@@ -0,0 +1,43 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.controller;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentBatchResultDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentRequestDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.RateLimitCost;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.SheddingPriority;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.EnrollmentService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for managing enrollments in bulk.
+ */
+@RestController
+@RequestMapping("/enrollments")
+@Timed(value = "enrollments", description = "Time taken to execute enrollment controller operations")
+public class EnrollmentController {
+
+    private final EnrollmentService enrollmentService;
+
+    public EnrollmentController(EnrollmentService enrollmentService) {
+        this.enrollmentService = enrollmentService;
+    }
+
+    /**
+     * POST /enrollments/batch : Enroll many students into courses at once
+     *
+     * @param requests the students and the course codes to enroll them in
+     * @return the ResponseEntity with status 200 (OK) and the outcome of the batch
+     */
+    @PostMapping("/batch")
+    @RateLimitCost(10)
+    @SheddingPriority(Priority.BULK)
+    @Timed(value = "enrollments.enrollBatch", description = "Time taken to enroll a batch of students")
+    public ResponseEntity<EnrollmentBatchResultDTO> enrollAll(@RequestBody List<EnrollmentRequestDTO> requests) {
+        EnrollmentBatchResultDTO result = enrollmentService.enrollAll(requests);
+        return ResponseEntity.ok(result);
+    }
+}
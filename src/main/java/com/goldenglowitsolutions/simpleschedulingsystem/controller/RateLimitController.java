@@ -1,6 +1,8 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.controller;
 
 import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.ClientKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,16 +20,22 @@ public class RateLimitController {
 
     private final RateLimitingContainer rateLimitingContainer;
 
+    private final ClientKeyResolver clientKeyResolver;
+
     /**
-     * Get current rate limit information.
+     * Get current rate limit information of the calling client.
      *
+     * @param request the request identifying the client
      * @return A map containing available tokens information
      */
     @GetMapping("/info")
-    public Map<String, Object> getRateLimitInfo() {
+    public Map<String, Object> getRateLimitInfo(HttpServletRequest request) {
         return Map.of(
-                "availableTokens", rateLimitingContainer.getAvailableTokens(),
+                "availableTokens", rateLimitingContainer.getAvailableTokens(clientKeyResolver.resolve(request)),
                 "maxCapacity", rateLimitingContainer.getCapacity(),
+                "burst", rateLimitingContainer.getBurst(),
+                "algorithm", rateLimitingContainer.getAlgorithm(),
+                "shared", rateLimitingContainer.isShared(),
                 "refillPeriodMinutes", rateLimitingContainer.getPeriodMinutes()
         );
     }
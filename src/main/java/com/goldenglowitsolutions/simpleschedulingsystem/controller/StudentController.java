@@ -1,6 +1,18 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.controller;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CachedResponse;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.VersionedBy;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.RosterChangeDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentBatchResultDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.RateLimitCost;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.SheddingPriority;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
 import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
@@ -22,9 +34,11 @@ import java.util.List;
 public class StudentController {
 
     private final StudentService studentService;
+    private final NegativeCache negativeCache;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(StudentService studentService, NegativeCache negativeCache) {
         this.studentService = studentService;
+        this.negativeCache = negativeCache;
     }
 
     /**
@@ -33,6 +47,10 @@ public class StudentController {
      * @return the ResponseEntity with status 200 (OK) and the list of students
      */
     @GetMapping
+    @CachedResponse
+    @VersionedBy(Aggregate.STUDENTS)
+    @RateLimitCost(5)
+    @SheddingPriority(Priority.BULK)
     @Timed(value = "students.getAll", description = "Time taken to get all students")
     public ResponseEntity<List<StudentDTO>> getAllStudents() {
         List<StudentDTO> students = studentService.getAllStudents();
@@ -46,6 +64,7 @@ public class StudentController {
      * @return the ResponseEntity with status 200 (OK) and the paged list of students
      */
     @GetMapping("/paged")
+    @RateLimitCost(2)
     @Timed(value = "students.getPaged", description = "Time taken to get paged students")
     public ResponseEntity<Page<StudentDTO>> getPagedStudents(
             @PageableDefault(size = 10, sort = "lastName") Pageable pageable) {
@@ -53,16 +72,56 @@ public class StudentController {
         return ResponseEntity.ok(students);
     }
     
+    /**
+     * GET /students/scroll : Get students ordered by last name using cursor-based pagination
+     *
+     * @param cursor the cursor returned with the previous page, omitted for the first page
+     * @param size the page size
+     * @param includeTotal whether to also return the total number of students
+     * @return the ResponseEntity with status 200 (OK) and the page of students with the next cursor
+     */
+    @GetMapping("/scroll")
+    @Timed(value = "students.scroll", description = "Time taken to scroll students")
+    public ResponseEntity<CursorPageDTO<StudentDTO>> scrollStudents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageDTO<StudentDTO> students = studentService.scrollStudents(cursor, size, includeTotal);
+        return ResponseEntity.ok(students);
+    }
+    
+    /**
+     * GET /students/changes : Get the student, course and enrollment changes since a token
+     *
+     * @param since the token returned with the previous changes, omitted to get a token for the current state
+     * @param limit the maximum number of changes to return (default: 100)
+     * @return the ResponseEntity with status 200 (OK) and the changes with the token for the following ones,
+     * or status 410 (Gone) if the token has expired and the full roster must be downloaded again
+     */
+    @GetMapping("/changes")
+    @Timed(value = "students.changes", description = "Time taken to get roster changes")
+    public ResponseEntity<CursorPageDTO<RosterChangeDTO>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+        CursorPageDTO<RosterChangeDTO> changes = studentService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
     /**
      * GET /students/search : Search for students
      *
      * @param query the search query
+     * @param limit the maximum number of students to return (default: 50)
      * @return the ResponseEntity with status 200 (OK) and the list of matching students
      */
     @GetMapping("/search")
+    @RateLimitCost(5)
+    @SheddingPriority(Priority.BULK)
     @Timed(value = "students.search", description = "Time taken to search students")
-    public ResponseEntity<List<StudentDTO>> searchStudents(@RequestParam String query) {
-        List<StudentDTO> students = studentService.searchStudents(query);
+    public ResponseEntity<List<StudentDTO>> searchStudents(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<StudentDTO> students = studentService.searchStudents(query, limit);
         return ResponseEntity.ok(students);
     }
 
@@ -73,8 +132,13 @@ public class StudentController {
      * @return the ResponseEntity with status 200 (OK) and the student, or status 404 (Not Found)
      */
     @GetMapping("/{id}")
+    @CachedResponse
     @Timed(value = "students.getById", description = "Time taken to get student by ID")
     public ResponseEntity<StudentDTO> getStudentById(@PathVariable Long id) {
+        // Checked before the cached service so known-missing IDs never reach the cache's exception wrapping
+        if (negativeCache.isMissing(Student.class, id)) {
+            throw new EntityNotFoundException("Student not found with ID: " + id, false);
+        }
         StudentDTO student = studentService.getStudentById(id);
         return ResponseEntity.ok(student);
     }
@@ -92,6 +156,21 @@ public class StudentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdStudent);
     }
 
+    /**
+     * POST /students/batch : Create many students at once
+     *
+     * @param studentDTOs the students to create
+     * @return the ResponseEntity with status 200 (OK) and the created students along with the rejected rows
+     */
+    @PostMapping("/batch")
+    @RateLimitCost(10)
+    @SheddingPriority(Priority.BULK)
+    @Timed(value = "students.createBatch", description = "Time taken to create a batch of students")
+    public ResponseEntity<StudentBatchResultDTO> createStudents(@RequestBody List<StudentDTO> studentDTOs) {
+        StudentBatchResultDTO result = studentService.createStudents(studentDTOs);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * PUT /students/{id} : Update an existing student
      *
@@ -126,6 +205,7 @@ public class StudentController {
      * @return the ResponseEntity with status 200 (OK) and the student with courses
      */
     @GetMapping("/{id}/courses")
+    @CachedResponse
     @Timed(value = "students.getCourses", description = "Time taken to get student courses")
     public ResponseEntity<StudentDTO> getStudentCourses(@PathVariable Long id) {
         StudentDTO student = studentService.getStudentWithCourses(id);
@@ -145,4 +225,18 @@ public class StudentController {
         StudentDTO updatedStudent = studentService.assignCourses(id, courseCodes);
         return ResponseEntity.ok(updatedStudent);
     }
-} 
\ No newline at end of file
+
+    /**
+     * DELETE /students/{id}/courses/{code} : Remove a course from a student
+     *
+     * @param id the ID of the student
+     * @param code the code of the course to remove
+     * @return the ResponseEntity with status 204 (NO_CONTENT)
+     */
+    @DeleteMapping("/{id}/courses/{code}")
+    @Timed(value = "students.unassignCourse", description = "Time taken to remove a course from a student")
+    public ResponseEntity<Void> unassignCourse(@PathVariable Long id, @PathVariable String code) {
+        studentService.unassignCourse(id, code);
+        return ResponseEntity.noContent().build();
+    }
+}
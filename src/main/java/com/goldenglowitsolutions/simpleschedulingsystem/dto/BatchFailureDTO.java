@@ -0,0 +1,43 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.dto;
+
+/**
+ * Data Transfer Object describing why a single row of a batch request was rejected.
+ */
+public class BatchFailureDTO {
+
+    private int index;
+
+    private String message;
+
+    // Constructors
+    public BatchFailureDTO() {
+    }
+
+    public BatchFailureDTO(int index, String message) {
+        this.index = index;
+        this.message = message;
+    }
+
+    // Getters and setters
+
+    /**
+     * Zero-based position of the rejected row in the request body.
+     *
+     * @return the row index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
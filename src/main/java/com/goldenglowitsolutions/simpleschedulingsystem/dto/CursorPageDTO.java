@@ -0,0 +1,73 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a cursor-based (keyset) page of results.
+ *
+ * @param <T> the type of the page content
+ */
+public class CursorPageDTO<T> {
+
+    private List<T> content = new ArrayList<>();
+
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    private Long totalElements;
+
+    // Constructors
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    // Getters and setters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    /**
+     * Opaque cursor to pass back to fetch the following page, or null on the last page.
+     *
+     * @return the next cursor
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Total number of elements, only populated when explicitly requested.
+     *
+     * @return the total number of elements, or null
+     */
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,62 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk enrollment.
+ */
+public class EnrollmentBatchResultDTO {
+
+    private int enrolled;
+
+    private int alreadyEnrolled;
+
+    private List<BatchFailureDTO> failures = new ArrayList<>();
+
+    // Constructors
+    public EnrollmentBatchResultDTO() {
+    }
+
+    public EnrollmentBatchResultDTO(int enrolled, int alreadyEnrolled, List<BatchFailureDTO> failures) {
+        this.enrolled = enrolled;
+        this.alreadyEnrolled = alreadyEnrolled;
+        this.failures = failures;
+    }
+
+    // Getters and setters
+
+    /**
+     * Number of enrollment rows written by the batch.
+     *
+     * @return the number of new enrollments
+     */
+    public int getEnrolled() {
+        return enrolled;
+    }
+
+    public void setEnrolled(int enrolled) {
+        this.enrolled = enrolled;
+    }
+
+    /**
+     * Number of requested enrollments that already existed and were skipped.
+     *
+     * @return the number of skipped enrollments
+     */
+    public int getAlreadyEnrolled() {
+        return alreadyEnrolled;
+    }
+
+    public void setAlreadyEnrolled(int alreadyEnrolled) {
+        this.alreadyEnrolled = alreadyEnrolled;
+    }
+
+    public List<BatchFailureDTO> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<BatchFailureDTO> failures) {
+        this.failures = failures;
+    }
+}
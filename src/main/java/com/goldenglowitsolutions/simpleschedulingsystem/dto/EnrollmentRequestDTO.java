@@ -0,0 +1,40 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for enrolling one student into a list of courses.
+ */
+public class EnrollmentRequestDTO {
+
+    private Long studentId;
+
+    private List<String> courseCodes = new ArrayList<>();
+
+    // Constructors
+    public EnrollmentRequestDTO() {
+    }
+
+    public EnrollmentRequestDTO(Long studentId, List<String> courseCodes) {
+        this.studentId = studentId;
+        this.courseCodes = courseCodes;
+    }
+
+    // Getters and setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public List<String> getCourseCodes() {
+        return courseCodes;
+    }
+
+    public void setCourseCodes(List<String> courseCodes) {
+        this.courseCodes = courseCodes;
+    }
+}
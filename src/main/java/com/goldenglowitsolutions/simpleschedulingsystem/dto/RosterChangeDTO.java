@@ -0,0 +1,69 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.dto;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for an entry of the roster change feed.
+ */
+public class RosterChangeDTO {
+
+    private RosterChange.Type type;
+
+    private Long studentId;
+
+    private String courseCode;
+
+    private Instant changedAt;
+
+    // Constructors
+    public RosterChangeDTO() {
+    }
+
+    public RosterChangeDTO(RosterChange.Type type, Long studentId, String courseCode, Instant changedAt) {
+        this.type = type;
+        this.studentId = studentId;
+        this.courseCode = courseCode;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and setters
+    public RosterChange.Type getType() {
+        return type;
+    }
+
+    public void setType(RosterChange.Type type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the changed or enrolled student, or null for course changes
+     */
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    /**
+     * @return the changed or enrolled-in course, or null for student changes
+     */
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,40 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk student creation.
+ */
+public class StudentBatchResultDTO {
+
+    private List<StudentDTO> created = new ArrayList<>();
+
+    private List<BatchFailureDTO> failures = new ArrayList<>();
+
+    // Constructors
+    public StudentBatchResultDTO() {
+    }
+
+    public StudentBatchResultDTO(List<StudentDTO> created, List<BatchFailureDTO> failures) {
+        this.created = created;
+        this.failures = failures;
+    }
+
+    // Getters and setters
+    public List<StudentDTO> getCreated() {
+        return created;
+    }
+
+    public void setCreated(List<StudentDTO> created) {
+        this.created = created;
+    }
+
+    public List<BatchFailureDTO> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<BatchFailureDTO> failures) {
+        this.failures = failures;
+    }
+}
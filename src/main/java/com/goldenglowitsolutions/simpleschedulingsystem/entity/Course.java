@@ -1,6 +1,9 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -10,6 +13,8 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Course {
 
     @Id
@@ -23,6 +28,7 @@ public class Course {
     private String description;
 
     @ManyToMany(mappedBy = "courses", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private Set<Student> students = new HashSet<>();
 
     // Constructors
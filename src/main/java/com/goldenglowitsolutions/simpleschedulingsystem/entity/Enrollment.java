@@ -0,0 +1,84 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+
+/**
+ * Entity representing a single enrollment row of the student_courses join table.
+ * <p>
+ * It maps the same table as the {@link Student#getCourses()} association so that
+ * enrollments can be written and removed row by row without initializing either
+ * side of the many-to-many collections.
+ */
+@Entity
+@Table(name = "student_courses")
+public class Enrollment implements Persistable<EnrollmentId> {
+
+    @EmbeddedId
+    private EnrollmentId id;
+
+    // Ids are always assigned, so track newness to persist without a select-before-insert
+    @Transient
+    private boolean isNew = true;
+
+    // Constructors
+    public Enrollment() {
+    }
+
+    public Enrollment(Long studentId, String courseCode) {
+        this.id = new EnrollmentId(studentId, courseCode);
+    }
+
+    // Getters and setters
+    @Override
+    public EnrollmentId getId() {
+        return id;
+    }
+
+    public void setId(EnrollmentId id) {
+        this.id = id;
+    }
+
+    public Long getStudentId() {
+        return id.getStudentId();
+    }
+
+    public String getCourseCode() {
+        return id.getCourseCode();
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    // Equals and hash code
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Enrollment that = (Enrollment) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "Enrollment{" +
+                "studentId=" + id.getStudentId() +
+                ", courseCode='" + id.getCourseCode() + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Composite key of an enrollment: one row of the student_courses join table.
+ */
+@Embeddable
+public class EnrollmentId implements Serializable {
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "course_code", length = 10, nullable = false)
+    private String courseCode;
+
+    // Constructors
+    public EnrollmentId() {
+    }
+
+    public EnrollmentId(Long studentId, String courseCode) {
+        this.studentId = studentId;
+        this.courseCode = courseCode;
+    }
+
+    // Getters and setters
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    // Equals and hash code
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EnrollmentId that = (EnrollmentId) o;
+        return Objects.equals(studentId, that.studentId) && Objects.equals(courseCode, that.courseCode);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, courseCode);
+    }
+
+    @Override
+    public String toString() {
+        return "EnrollmentId{" +
+                "studentId=" + studentId +
+                ", courseCode='" + courseCode + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,135 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Entity representing one entry of the roster change log.
+ * <p>
+ * Entries are written in the same transaction as the change they describe and read back in commit
+ * position order by clients mirroring the roster. Each entry only names what changed; clients fetch the
+ * current state of changed students or courses themselves.
+ */
+@Entity
+@Table(name = "roster_changes", indexes = {
+        @Index(name = "idx_roster_changes_changed_at", columnList = "changed_at"),
+        @Index(name = "idx_roster_changes_commit_position", columnList = "commit_position, id")
+})
+public class RosterChange {
+
+    /**
+     * Kinds of roster changes.
+     */
+    public enum Type {
+        STUDENT_CREATED, STUDENT_UPDATED, STUDENT_DELETED,
+        COURSE_CREATED, COURSE_UPDATED, COURSE_DELETED,
+        ENROLLED, UNENROLLED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roster_change_seq")
+    @SequenceGenerator(name = "roster_change_seq", sequenceName = "roster_changes_seq", allocationSize = 50)
+    private Long id;
+
+    // Position of the committing transaction, see RosterChangeWatermark; IDs only order entries within it
+    private Long commitPosition;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    private Long studentId;
+
+    private String courseCode;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    // Constructors
+    public RosterChange() {
+    }
+
+    public RosterChange(Type type, Long studentId, String courseCode) {
+        this.type = type;
+        this.studentId = studentId;
+        this.courseCode = courseCode;
+        this.changedAt = Instant.now();
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getCourseCode() {
+        return courseCode;
+    }
+
+    public void setCourseCode(String courseCode) {
+        this.courseCode = courseCode;
+    }
+
+    public Long getCommitPosition() {
+        return commitPosition;
+    }
+
+    public void setCommitPosition(Long commitPosition) {
+        this.commitPosition = commitPosition;
+    }
+
+    public Instant getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(Instant changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    // Equals and hash code
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RosterChange that = (RosterChange) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RosterChange{" +
+                "id=" + id +
+                ", commitPosition=" + commitPosition +
+                ", type=" + type +
+                ", studentId=" + studentId +
+                ", courseCode='" + courseCode + '\'' +
+                ", changedAt=" + changedAt +
+                '}';
+    }
+}
@@ -0,0 +1,64 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.entity;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+/**
+ * Entity holding the commit position of the newest roster change log entries.
+ * <p>
+ * There is a single row. Every transaction that writes log entries locks it just before committing,
+ * takes the next position for its entries and keeps the lock until the commit. Positions are thereby
+ * handed out in commit order, so once a reader sees a position, every lower one is visible too.
+ */
+@Entity
+@Table(name = "roster_change_watermark")
+public class RosterChangeWatermark {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long position;
+
+    // Constructors
+    public RosterChangeWatermark() {
+    }
+
+    public RosterChangeWatermark(Integer id) {
+        this.id = id;
+    }
+
+    // Getters and setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    // Equals and hash code
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RosterChangeWatermark that = (RosterChangeWatermark) o;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -1,6 +1,10 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -10,10 +14,14 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "students")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Student {
 
+    // Sequence ids (rather than IDENTITY) let Hibernate batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,6 +34,7 @@ public class Student {
     private String email;
 
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
         name = "student_courses",
         joinColumns = @JoinColumn(name = "student_id"),
@@ -85,14 +94,20 @@ public class Student {
     }
 
     // Helper methods
+    // The inverse side is only kept in sync when already loaded, so that enrolling
+    // into a popular course does not fetch every classmate
     public void addCourse(Course course) {
         this.courses.add(course);
-        course.getStudents().add(this);
+        if (Hibernate.isInitialized(course.getStudents())) {
+            course.getStudents().add(this);
+        }
     }
 
     public void removeCourse(Course course) {
         this.courses.remove(course);
-        course.getStudents().remove(this);
+        if (Hibernate.isInitialized(course.getStudents())) {
+            course.getStudents().remove(this);
+        }
     }
 
     // Equals and hash code
@@ -0,0 +1,31 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request parameter is out of range or malformed, such as a page size above
+ * the maximum or a cursor that was not issued by this application.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BadRequestException extends RuntimeException {
+
+    /**
+     * Constructs a new BadRequestException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new BadRequestException with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause
+     */
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
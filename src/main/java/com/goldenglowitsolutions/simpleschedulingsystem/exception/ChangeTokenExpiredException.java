@@ -0,0 +1,21 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a change feed token is older than the retained change log, so the changes
+ * since that token can no longer be listed and the client has to download the full roster again.
+ */
+@ResponseStatus(HttpStatus.GONE)
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    /**
+     * Constructs a new ChangeTokenExpiredException with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -27,4 +27,16 @@ public class EntityNotFoundException extends RuntimeException {
     public EntityNotFoundException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new EntityNotFoundException with the specified detail message, optionally without
+     * capturing a stack trace. Skipping the stack trace makes the exception cheap to throw on hot paths
+     * where it only ends up as a 404 response.
+     *
+     * @param message the detail message
+     * @param writableStackTrace whether to capture the stack trace
+     */
+    public EntityNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 } 
\ No newline at end of file
@@ -120,6 +120,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handle ChangeTokenExpiredException.
+     *
+     * @param ex the exception
+     * @return the error response
+     */
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeTokenExpiredException(ChangeTokenExpiredException ex) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.GONE.value(),
+                ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(response);
+    }
+
+    /**
+     * Handle BadRequestException for malformed or out of range request parameters.
+     *
+     * @param ex the exception
+     * @return the error response
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException ex) {
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     /**
      * Handle any other exception.
      *
@@ -0,0 +1,181 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index of the course catalog for answering "courses not taken" without a database anti-join.
+ * <p>
+ * Every course gets a bit position in code order, so a student's enrollments form a bitset and the
+ * courses not taken are its complement over the catalog. Reads work on an immutable snapshot and never
+ * block; catalog changes, which are rare, replace the snapshot.
+ * <p>
+ * Enabled with {@code app.courses.not-taken.in-memory=true}.
+ */
+@Component
+public class CourseCatalogIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseCatalogIndex.class);
+
+    private final CourseRepository courseRepository;
+
+    private final boolean enabled;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public CourseCatalogIndex(CourseRepository courseRepository,
+                              @Value("${app.courses.not-taken.in-memory:false}") boolean enabled) {
+        this.courseRepository = courseRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether the index is enabled and should be used instead of the database query.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads the whole catalog once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        load(courseRepository.findAllDTOs());
+        logger.info("Course catalog index built with {} courses", snapshot.courses.length);
+    }
+
+    /**
+     * Replaces the indexed catalog with the given courses.
+     *
+     * @param courses the complete catalog
+     */
+    public synchronized void load(Collection<CourseDTO> courses) {
+        snapshot = Snapshot.of(courses);
+    }
+
+    /**
+     * Adds a course to the index or replaces the indexed course with the same code.
+     *
+     * @param course the created or updated course
+     */
+    public synchronized void put(CourseDTO course) {
+        if (!enabled) {
+            return;
+        }
+        List<CourseDTO> courses = new ArrayList<>(snapshot.courses.length + 1);
+        for (CourseDTO existing : snapshot.courses) {
+            if (!existing.getCode().equals(course.getCode())) {
+                courses.add(existing);
+            }
+        }
+        courses.add(copyOf(course));
+        snapshot = Snapshot.of(courses);
+    }
+
+    /**
+     * Removes a course from the index.
+     *
+     * @param code the code of the deleted course
+     */
+    public synchronized void remove(String code) {
+        if (!enabled || !snapshot.positions.containsKey(code)) {
+            return;
+        }
+        List<CourseDTO> courses = new ArrayList<>(snapshot.courses.length);
+        for (CourseDTO existing : snapshot.courses) {
+            if (!existing.getCode().equals(code)) {
+                courses.add(existing);
+            }
+        }
+        snapshot = Snapshot.of(courses);
+    }
+
+    /**
+     * Returns every catalog course whose code is not among the given codes, in code order.
+     *
+     * @param takenCourseCodes the codes of the courses a student is enrolled in
+     * @return the courses not taken
+     */
+    public List<CourseDTO> complementOf(Collection<String> takenCourseCodes) {
+        Snapshot current = snapshot;
+        BitSet taken = new BitSet(current.courses.length);
+        for (String code : takenCourseCodes) {
+            Integer position = current.positions.get(code);
+            if (position != null) {
+                taken.set(position);
+            }
+        }
+
+        List<CourseDTO> notTaken = new ArrayList<>(current.courses.length - taken.cardinality());
+        for (int i = taken.nextClearBit(0); i < current.courses.length; i = taken.nextClearBit(i + 1)) {
+            notTaken.add(copyOf(current.courses[i]));
+        }
+        return notTaken;
+    }
+
+    /**
+     * Number of indexed courses.
+     *
+     * @return the catalog size
+     */
+    public int size() {
+        return snapshot.courses.length;
+    }
+
+    /**
+     * Helper method to copy a course so callers never share the indexed instance.
+     *
+     * @param course the course to copy
+     * @return the copy, without students
+     */
+    private static CourseDTO copyOf(CourseDTO course) {
+        return new CourseDTO(course.getCode(), course.getTitle(), course.getDescription());
+    }
+
+    /**
+     * Immutable view of the catalog: courses ordered by code and the bit position of each code.
+     */
+    private static final class Snapshot {
+
+        private final CourseDTO[] courses;
+
+        private final Map<String, Integer> positions;
+
+        private Snapshot(CourseDTO[] courses, Map<String, Integer> positions) {
+            this.courses = courses;
+            this.positions = positions;
+        }
+
+        static Snapshot of(Collection<CourseDTO> courses) {
+            CourseDTO[] sorted = courses.stream()
+                    .map(CourseCatalogIndex::copyOf)
+                    .sorted(Comparator.comparing(CourseDTO::getCode))
+                    .toArray(CourseDTO[]::new);
+            Map<String, Integer> positions = new HashMap<>(sorted.length * 2);
+            for (int i = 0; i < sorted.length; i++) {
+                positions.put(sorted[i].getCode(), i);
+            }
+            return new Snapshot(sorted, positions);
+        }
+    }
+}
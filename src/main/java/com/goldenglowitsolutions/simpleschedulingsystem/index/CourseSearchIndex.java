@@ -0,0 +1,248 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Full-text index over course titles and descriptions with BM25 relevance ranking.
+ * <p>
+ * Titles and descriptions are split into lower-cased letter and digit tokens, and title tokens count
+ * {@value #TITLE_WEIGHT} times. A query scores every course containing at least one of its tokens, and
+ * only the top {@code offset + size} courses are kept for the requested page. The index is loaded at
+ * startup and updated by the course service after each committed write.
+ */
+@Component
+public class CourseSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseSearchIndex.class);
+
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    private final CourseRepository courseRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Document> documents = new HashMap<>();
+
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+
+    private long totalLength;
+
+    public CourseSearchIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Loads all courses once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<CourseDTO> courses = courseRepository.findAllDTOs();
+        load(courses);
+        logger.info("Course search index built with {} courses", courses.size());
+    }
+
+    /**
+     * Replaces the indexed courses with the given courses.
+     *
+     * @param courses all courses
+     */
+    public void load(Collection<CourseDTO> courses) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            totalLength = 0;
+            courses.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a course to the index or replaces the indexed course with the same code.
+     *
+     * @param course the created or updated course
+     */
+    public void put(CourseDTO course) {
+        lock.writeLock().lock();
+        try {
+            delete(course.getCode());
+            add(course);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a course from the index.
+     *
+     * @param code the code of the deleted course
+     */
+    public void remove(String code) {
+        lock.writeLock().lock();
+        try {
+            delete(code);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Search for courses matching any token of the query, most relevant first.
+     *
+     * @param query the search query
+     * @param pageable the page of results to return; its sort is ignored
+     * @return the page of matching courses, with the total number of matches
+     */
+    public Page<CourseDTO> search(String query, Pageable pageable) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = new HashMap<>();
+            double averageLength = documents.isEmpty() ? 0 : (double) totalLength / documents.size();
+            for (String term : terms) {
+                Map<String, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documents.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<String, Integer> entry : posting.entrySet()) {
+                    int frequency = entry.getValue();
+                    double lengthRatio = documents.get(entry.getKey()).length / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                    scores.merge(entry.getKey(), score, Double::sum);
+                }
+            }
+
+            // Keep only the best offset + size hits in a min-heap instead of sorting every match
+            Comparator<Map.Entry<String, Double>> ranking = Map.Entry.<String, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey());
+            if (pageable.getOffset() >= scores.size()) {
+                return new PageImpl<>(new ArrayList<>(), pageable, scores.size());
+            }
+            int topK = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), scores.size());
+            PriorityQueue<Map.Entry<String, Double>> best = new PriorityQueue<>(topK + 1, ranking.reversed());
+            for (Map.Entry<String, Double> score : scores.entrySet()) {
+                best.offer(score);
+                if (best.size() > topK) {
+                    best.poll();
+                }
+            }
+
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>(best);
+            ranked.sort(ranking);
+            List<CourseDTO> content = new ArrayList<>(pageable.getPageSize());
+            for (int i = (int) pageable.getOffset(); i < ranked.size(); i++) {
+                CourseDTO course = documents.get(ranked.get(i).getKey()).course;
+                content.add(new CourseDTO(course.getCode(), course.getTitle(), course.getDescription()));
+            }
+            return new PageImpl<>(content, pageable, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Helper method to split text into lower-cased letter and digit tokens.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean tokenChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Helper method to index a course. Callers hold the write lock.
+     */
+    private void add(CourseDTO course) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(course.getTitle()).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        tokenize(course.getDescription()).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        CourseDTO copy = new CourseDTO(course.getCode(), course.getTitle(), course.getDescription());
+        documents.put(course.getCode(), new Document(copy, frequencies.keySet(), length));
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(course.getCode(), frequency));
+        totalLength += length;
+    }
+
+    /**
+     * Helper method to remove a course from the index. Callers hold the write lock.
+     */
+    private void delete(String code) {
+        Document document = documents.remove(code);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            Map<String, Integer> posting = postings.get(term);
+            posting.remove(code);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    /**
+     * An indexed course with its distinct terms and weighted token count.
+     */
+    private static final class Document {
+
+        private final CourseDTO course;
+
+        private final Set<String> terms;
+
+        private final int length;
+
+        private Document(CourseDTO course, Set<String> terms, int length) {
+            this.course = course;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
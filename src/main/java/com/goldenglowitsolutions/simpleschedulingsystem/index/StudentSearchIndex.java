@@ -0,0 +1,52 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory search index over students' first name, last name and email.
+ * <p>
+ * Implementations are kept up to date by the student service after each committed write and
+ * answer searches without touching the database.
+ */
+public interface StudentSearchIndex {
+
+    /**
+     * Whether the index is enabled and should be used instead of the database query.
+     *
+     * @return true if enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Replaces the indexed students with the given students.
+     *
+     * @param students all students
+     */
+    void load(Collection<StudentDTO> students);
+
+    /**
+     * Adds a student to the index or replaces the indexed student with the same ID.
+     *
+     * @param student the created or updated student
+     */
+    void put(StudentDTO student);
+
+    /**
+     * Removes a student from the index.
+     *
+     * @param id the ID of the deleted student
+     */
+    void remove(Long id);
+
+    /**
+     * Search for students matching the query, best matches first.
+     *
+     * @param query the search query
+     * @param limit the maximum number of students to return
+     * @return the matching students
+     */
+    List<StudentDTO> search(String query, int limit);
+}
@@ -0,0 +1,381 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Student search index backed by a trigram inverted index.
+ * <p>
+ * Every student occupies a slot, and each trigram of the lower-cased first name, last name and email
+ * maps to the ascending list of slots containing it. A query of three or more characters intersects the
+ * posting lists of its trigrams, starting from the shortest, and verifies each candidate with a substring
+ * check. Fields are padded at the start, so queries of one or two characters match field prefixes.
+ * <p>
+ * Readers never lock. Writers are serialized, append to the posting lists and leave removed slots empty;
+ * the index is compacted once empty slots outnumber live ones. Enabled with
+ * {@code app.students.search.in-memory=true}.
+ */
+@Component
+public class TrigramStudentSearchIndex implements StudentSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrigramStudentSearchIndex.class);
+
+    private static final char PAD = '\u0001';
+
+    private static final int MIN_COMPACTION_SLOTS = 1024;
+
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::rank)
+            .thenComparing(match -> match.entry.lastName)
+            .thenComparing(match -> match.entry.firstName)
+            .thenComparingLong(match -> match.entry.id);
+
+    private final StudentRepository studentRepository;
+
+    private final boolean enabled;
+
+    private volatile State state = new State(16);
+
+    public TrigramStudentSearchIndex(StudentRepository studentRepository,
+                                     @Value("${app.students.search.in-memory:false}") boolean enabled) {
+        this.studentRepository = studentRepository;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Loads all students once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<StudentDTO> students = studentRepository.findAllDTOs();
+        load(students);
+        logger.info("Student search index built with {} students", students.size());
+    }
+
+    @Override
+    public synchronized void load(Collection<StudentDTO> students) {
+        State loaded = new State(students.size());
+        for (StudentDTO student : students) {
+            loaded.add(new Entry(student));
+        }
+        state = loaded;
+    }
+
+    @Override
+    public synchronized void put(StudentDTO student) {
+        if (!enabled) {
+            return;
+        }
+        state.remove(student.getId());
+        state.add(new Entry(student));
+        // An update leaves the old slot empty too, so repeated updates need compacting as well
+        compactIfSparse();
+    }
+
+    @Override
+    public synchronized void remove(Long id) {
+        if (!enabled) {
+            return;
+        }
+        state.remove(id);
+        compactIfSparse();
+    }
+
+    /**
+     * Rebuilds the state without empty slots once they outnumber the live ones.
+     */
+    private void compactIfSparse() {
+        State current = state;
+        int dead = current.size - current.slotsById.size();
+        if (dead > MIN_COMPACTION_SLOTS && dead > current.slotsById.size()) {
+            State compacted = new State(current.slotsById.size());
+            for (int slot = 0; slot < current.size; slot++) {
+                if (current.entries[slot] != null) {
+                    compacted.add(current.entries[slot]);
+                }
+            }
+            state = compacted;
+        }
+    }
+
+    @Override
+    public List<StudentDTO> search(String query, int limit) {
+        String term = normalize(query);
+        if (term.isEmpty() || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        State current = state;
+        long[] grams = term.length() >= 3 ? trigramsOf(term) : new long[]{prefixGramOf(term)};
+        int[][] lists = new int[grams.length][];
+        int[] sizes = new int[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            Postings postings = current.postings.get(grams[i]);
+            if (postings == null) {
+                return new ArrayList<>();
+            }
+            // Read the size before the array so the array is at least that long
+            sizes[i] = postings.size;
+            lists[i] = postings.slots;
+        }
+        int shortest = 0;
+        for (int i = 1; i < grams.length; i++) {
+            if (sizes[i] < sizes[shortest]) {
+                shortest = i;
+            }
+        }
+
+        int entryCount = current.size;
+        Entry[] entries = current.entries;
+        boolean prefixOnly = term.length() < 3;
+        PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        candidates:
+        for (int c = 0; c < sizes[shortest]; c++) {
+            int slot = lists[shortest][c];
+            for (int i = 0; i < grams.length; i++) {
+                if (i != shortest && Arrays.binarySearch(lists[i], 0, sizes[i], slot) < 0) {
+                    continue candidates;
+                }
+            }
+            Entry entry = slot < entryCount ? entries[slot] : null;
+            if (entry == null) {
+                continue;
+            }
+            int rank = entry.rank(term, prefixOnly);
+            if (rank < 0) {
+                continue;
+            }
+            best.offer(new Match(entry, rank));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(RANKING);
+        List<StudentDTO> results = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            results.add(match.entry.toDTO());
+        }
+        return results;
+    }
+
+    /**
+     * Number of indexed students.
+     *
+     * @return the number of students
+     */
+    public int size() {
+        return state.slotsById.size();
+    }
+
+    /**
+     * Number of slots in use, including the empty slots of removed or updated students.
+     *
+     * @return the number of slots
+     */
+    int slotCount() {
+        return state.size;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long gram(char a, char b, char c) {
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static long prefixGramOf(String term) {
+        return term.length() == 1 ? gram(PAD, PAD, term.charAt(0)) : gram(PAD, term.charAt(0), term.charAt(1));
+    }
+
+    /**
+     * Helper method to collect the distinct trigrams of a term.
+     */
+    private static long[] trigramsOf(String term) {
+        long[] grams = new long[term.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(term.charAt(i), term.charAt(i + 1), term.charAt(i + 2));
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * Helper method to collect the distinct trigrams of all fields of a student, including the padded prefix grams.
+     */
+    private static long[] trigramsOf(Entry entry) {
+        return Stream.of(entry.firstNameKey, entry.lastNameKey, entry.emailKey)
+                .filter(field -> !field.isEmpty())
+                .flatMapToLong(field -> Arrays.stream(trigramsOf("" + PAD + PAD + field)))
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Slots, posting lists and the slot of every live student. Only one writer at a time mutates a state.
+     */
+    private static final class State {
+
+        private final Map<Long, Postings> postings = new ConcurrentHashMap<>();
+
+        private final Map<Long, Integer> slotsById = new HashMap<>();
+
+        private volatile Entry[] entries;
+
+        private volatile int size;
+
+        private State(int capacity) {
+            this.entries = new Entry[Math.max(capacity, 16)];
+        }
+
+        private void add(Entry entry) {
+            Entry[] current = entries;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                entries = current;
+            }
+            int slot = size;
+            current[slot] = entry;
+            size = slot + 1;
+            slotsById.put(entry.id, slot);
+            for (long gram : trigramsOf(entry)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(slot);
+            }
+        }
+
+        private void remove(Long id) {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                entries[slot] = null;
+            }
+        }
+    }
+
+    /**
+     * Append-only ascending list of slots. The array is published before the size that covers it.
+     */
+    private static final class Postings {
+
+        private volatile int[] slots = new int[4];
+
+        private volatile int size;
+
+        private void add(int slot) {
+            int[] current = slots;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+                slots = current;
+            }
+            current[size] = slot;
+            size = size + 1;
+        }
+    }
+
+    /**
+     * Immutable indexed student with its lower-cased search keys.
+     */
+    private static final class Entry {
+
+        private final long id;
+        private final String firstName;
+        private final String lastName;
+        private final String email;
+        private final String firstNameKey;
+        private final String lastNameKey;
+        private final String emailKey;
+
+        private Entry(StudentDTO student) {
+            this.id = student.getId();
+            this.firstName = student.getFirstName() == null ? "" : student.getFirstName();
+            this.lastName = student.getLastName() == null ? "" : student.getLastName();
+            this.email = student.getEmail() == null ? "" : student.getEmail();
+            this.firstNameKey = normalize(firstName);
+            this.lastNameKey = normalize(lastName);
+            this.emailKey = normalize(email);
+        }
+
+        /**
+         * Ranks how well the student matches: 0 for an exact field, 1 for a field prefix, 2 for a word start
+         * and 3 for any other substring, or -1 for no match.
+         */
+        private int rank(String term, boolean prefixOnly) {
+            int best = -1;
+            for (String field : new String[]{firstNameKey, lastNameKey, emailKey}) {
+                int rank = rankField(field, term, prefixOnly);
+                if (rank >= 0 && (best < 0 || rank < best)) {
+                    best = rank;
+                }
+            }
+            return best;
+        }
+
+        private static int rankField(String field, String term, boolean prefixOnly) {
+            if (field.equals(term)) {
+                return 0;
+            }
+            if (field.startsWith(term)) {
+                return 1;
+            }
+            if (prefixOnly) {
+                return -1;
+            }
+            int rank = -1;
+            for (int i = field.indexOf(term, 1); i > 0; i = field.indexOf(term, i + 1)) {
+                if (!Character.isLetterOrDigit(field.charAt(i - 1))) {
+                    return 2;
+                }
+                rank = 3;
+            }
+            return rank;
+        }
+
+        private StudentDTO toDTO() {
+            return new StudentDTO(id, firstName, lastName, email);
+        }
+    }
+
+    /**
+     * A matching student and its rank.
+     */
+    private static final class Match {
+
+        private final Entry entry;
+
+        private final int rank;
+
+        private Match(Entry entry, int rank) {
+            this.entry = entry;
+            this.rank = rank;
+        }
+
+        private int rank() {
+            return rank;
+        }
+    }
+}
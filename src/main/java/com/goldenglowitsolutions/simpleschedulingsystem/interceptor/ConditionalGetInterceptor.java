@@ -0,0 +1,57 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.interceptor;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.VersionedBy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor answering conditional GETs of {@link VersionedBy} endpoints from version counters.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final DataVersions dataVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        VersionedBy versionedBy = handlerMethod.getMethodAnnotation(VersionedBy.class);
+        if (versionedBy == null) {
+            return true;
+        }
+
+        // Writers evict cached lists after commit and only then bump the versions, so the body served
+        // under this ETag was loaded after every write the ETag accounts for
+        String etag = dataVersions.etag(versionedBy.value());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            // Not modified: skip the handler, the repository and the body
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
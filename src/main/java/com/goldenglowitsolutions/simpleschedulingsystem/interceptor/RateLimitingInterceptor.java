@@ -1,6 +1,9 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.interceptor;
 
 import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.ClientKeyResolver;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.EndpointCosts;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.EndpointCosts.EndpointCost;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +12,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 /**
- * Interceptor for applying rate limiting to API requests.
+ * Interceptor for applying per-client rate limiting to API requests.
+ * Each request consumes as many tokens as its endpoint costs.
  */
 @Component
 @RequiredArgsConstructor
@@ -17,11 +21,18 @@ public class RateLimitingInterceptor implements HandlerInterceptor {
 
     private final RateLimitingContainer rateLimitingContainer;
 
+    private final ClientKeyResolver clientKeyResolver;
+
+    private final EndpointCosts endpointCosts;
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        // Check if request can be consumed from the rate limiting container
-        if (rateLimitingContainer.tryConsume(1)) {
+        // Check if the endpoint's cost can be consumed from the client's bucket
+        EndpointCost endpointCost = endpointCosts.resolve(handler);
+        int cost = endpointCost.getCost();
+        if (rateLimitingContainer.tryConsume(clientKeyResolver.resolve(request), cost)) {
             // Allow the request
+            endpointCost.recordConsumed(cost);
             return true;
         } else {
             // Reject the request with 429 Too Many Requests
@@ -0,0 +1,200 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests in flight to what the application can currently serve without
+ * queueing, in the style of a gradient concurrency limit.
+ * <p>
+ * Latencies are collected per window. At the end of each window the average latency of the window
+ * (short RTT) is compared with a slowly moving average over many windows (long RTT). While the two
+ * agree the limit grows by about its square root, so it probes for more capacity; when the short RTT
+ * rises above the long one, for example because the database slowed down, the limit shrinks in
+ * proportion. Requests beyond the limit are rejected immediately instead of waiting for a thread.
+ * <p>
+ * Bulk requests may only use part of the limit, so they are shed first, and critical requests such
+ * as health checks are always admitted. Acquiring and releasing is lock-free; only the once per
+ * window limit update is synchronized.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    /**
+     * How readily a request is shed.
+     */
+    public enum Priority {
+        /** Always admitted, e.g. health checks. */
+        CRITICAL,
+        /** Admitted up to the limit. */
+        NORMAL,
+        /** Admitted up to the bulk share of the limit, e.g. unbounded lists and batch writes. */
+        BULK
+    }
+
+    // Windows with fewer samples are merged into the next one
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    // Weight of each window in the long RTT, roughly a 20 window average
+    private static final double LONG_RTT_WEIGHT = 0.05;
+
+    // Weight of each update in the limit, damping oscillation
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double bulkShare;
+    private final double tolerance;
+    private final long windowNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder rttSumNanos = new LongAdder();
+    private final LongAdder rttCount = new LongAdder();
+    private final AtomicLong windowEnd;
+    private final LongAdder shed = new LongAdder();
+
+    private volatile double limit;
+
+    // Only read and written while updating the limit
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit the limit before any latency has been observed
+     * @param minLimit the lowest the limit can shrink to
+     * @param maxLimit the highest the limit can grow to
+     * @param bulkShare the share of the limit bulk requests may use
+     * @param tolerance how much slower than the long RTT requests may get before the limit shrinks
+     * @param window how often the limit is updated
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double bulkShare,
+                                      double tolerance, Duration window) {
+        this(initialLimit, minLimit, maxLimit, bulkShare, tolerance, window, System.nanoTime());
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double bulkShare,
+                               double tolerance, Duration window, long nowNanos) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max: "
+                    + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        if (bulkShare <= 0 || bulkShare > 1) {
+            throw new IllegalArgumentException("Bulk share must be in (0, 1]: " + bulkShare);
+        }
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("Tolerance must be at least 1: " + tolerance);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.bulkShare = bulkShare;
+        this.tolerance = tolerance;
+        this.windowNanos = window.toNanos();
+        this.windowEnd = new AtomicLong(nowNanos + windowNanos);
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Try to admit a request. Every successful call must be paired with a call to {@link #release(long)} or {@link #release()}.
+     *
+     * @param priority the priority of the request
+     * @return true if the request may proceed, false if it should be shed
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = switch (priority) {
+            case CRITICAL -> Integer.MAX_VALUE;
+            case NORMAL -> getLimit();
+            case BULK -> Math.max(1, (int) (getLimit() * bulkShare));
+        };
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                shed.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > peakInFlight.get()) {
+                    peakInFlight.accumulateAndGet(current + 1, Math::max);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request without recording its latency, for requests that were answered
+     * before doing any real work and so say nothing about how loaded the application is.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Releases an admitted request and records its latency.
+     *
+     * @param rttNanos how long the request took
+     */
+    public void release(long rttNanos) {
+        release(rttNanos, System.nanoTime());
+    }
+
+    void release(long rttNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        rttSumNanos.add(rttNanos);
+        rttCount.increment();
+
+        long end = windowEnd.get();
+        if (nowNanos - end >= 0 && windowEnd.compareAndSet(end, nowNanos + windowNanos)) {
+            updateLimit();
+        }
+    }
+
+    private synchronized void updateLimit() {
+        long count = rttCount.sumThenReset();
+        long sum = rttSumNanos.sumThenReset();
+        if (count < MIN_WINDOW_SAMPLES) {
+            rttCount.add(count);
+            rttSumNanos.add(sum);
+            return;
+        }
+        double shortRtt = (double) sum / count;
+        int peak = peakInFlight.getAndSet(inFlight.get());
+
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+        // Let the long RTT catch up quickly once a slow period is over
+        if (longRttNanos > 2 * shortRtt) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        if (gradient == 1.0 && peak < current / 2) {
+            // Latency is fine but the limit is not being used, so there is nothing to learn
+            return;
+        }
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - SMOOTHING) + target * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    /**
+     * @return the number of requests that may currently be in flight
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests currently in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of requests shed since startup
+     */
+    public long getShed() {
+        return shed.sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+/**
+ * Holds the rate limiting buckets shared by all application nodes.
+ * <p>
+ * Nodes do not consume single tokens from the store but take batches, which they hand out locally
+ * through a {@link PrefetchingBucket}, so the store is only reached once every few requests.
+ * Implementations must take tokens atomically across nodes. {@link InMemoryBucketStore} is an
+ * in-JVM stand-in; a deployment with several nodes plugs in a networked implementation, for example
+ * a script running the same bucket arithmetic inside a key-value store.
+ */
+public interface BucketStore {
+
+    /**
+     * Takes between {@code minTokens} and {@code maxTokens} tokens from a client's bucket, as many
+     * as are available, or none at all if fewer than {@code minTokens} are available.
+     *
+     * @param clientKey the client
+     * @param minTokens the fewest tokens worth taking
+     * @param maxTokens the most tokens to take
+     * @return the number of tokens taken, either zero or between the bounds
+     */
+    int tryAcquire(String clientKey, int minTokens, int maxTokens);
+
+    /**
+     * Get the tokens of a client's bucket not yet taken by any node.
+     *
+     * @param clientKey the client
+     * @return number of available tokens
+     */
+    int getAvailableTokens(String clientKey);
+}
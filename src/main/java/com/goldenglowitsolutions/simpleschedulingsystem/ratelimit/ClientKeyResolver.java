@@ -0,0 +1,45 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+
+/**
+ * Identifies the client a request is rate limited as.
+ * <p>
+ * Clients are keyed by their remote address. Behind a proxy this is only the client's address when
+ * {@code server.forward-headers-strategy} is set, as the aws profile does. When {@code app.ratelimiting.client-header} is set,
+ * requests carrying one of the keys listed in {@code app.ratelimiting.api-keys} in that header are
+ * keyed by the key instead. Unknown keys are ignored, so a client cannot get a fresh budget, or push
+ * other clients' buckets out of the map, by sending a new key with every request.
+ */
+@Component
+public class ClientKeyResolver {
+
+    private final String clientHeader;
+
+    private final Set<String> apiKeys;
+
+    public ClientKeyResolver(@Value("${app.ratelimiting.client-header:}") String clientHeader,
+                             @Value("${app.ratelimiting.api-keys:}") Set<String> apiKeys) {
+        this.clientHeader = clientHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+    }
+
+    /**
+     * @param request the request
+     * @return the key of the client that sent the request
+     */
+    public String resolve(HttpServletRequest request) {
+        if (StringUtils.hasText(clientHeader)) {
+            String apiKey = request.getHeader(clientHeader);
+            if (apiKey != null && apiKeys.contains(apiKey)) {
+                return "key:" + apiKey;
+            }
+        }
+        return "addr:" + request.getRemoteAddr();
+    }
+}
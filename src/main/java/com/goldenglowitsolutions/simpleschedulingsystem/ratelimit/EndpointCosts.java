@@ -0,0 +1,191 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the number of rate limiting tokens each handler consumes and counts the tokens consumed
+ * per endpoint in the {@code ratelimit.tokens.consumed} metric.
+ * <p>
+ * Endpoints are named {@code <Controller>.<method>}. A cost set at runtime wins over one configured
+ * as {@code app.ratelimiting.costs.<endpoint>}, which wins over {@link RateLimitCost}; endpoints with
+ * none of these cost one token. Costs are resolved once per handler and then read from a field.
+ * <p>
+ * A cost can never exceed the burst size, since a request costing more than a full bucket would be
+ * rejected forever. Every handler is resolved at startup, so a declared or configured cost above the
+ * burst stops the application instead of failing on the first request.
+ */
+@Component
+public class EndpointCosts {
+
+    static final String PROPERTY_PREFIX = "app.ratelimiting.costs.";
+
+    static final String CONSUMED_METRIC = "ratelimit.tokens.consumed";
+
+    private static final String UNMAPPED = "unmapped";
+
+    private final Environment environment;
+
+    private final MeterRegistry meterRegistry;
+
+    private final int maxCost;
+
+    private final Map<Method, EndpointCost> endpoints = new ConcurrentHashMap<>();
+
+    // Costs set at runtime, also applied to handlers of the same name resolved later
+    private final Map<String, Integer> overrides = new ConcurrentHashMap<>();
+
+    private final EndpointCost unmapped;
+
+    public EndpointCosts(Environment environment, MeterRegistry meterRegistry, RateLimitingContainer rateLimitingContainer) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.maxCost = rateLimitingContainer.getBurst();
+        this.unmapped = new EndpointCost(UNMAPPED, 1);
+    }
+
+    /**
+     * @param handler the handler chosen for a request
+     * @return the cost of the handler's endpoint
+     */
+    public EndpointCost resolve(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return endpoints.computeIfAbsent(handlerMethod.getMethod(), method -> register(handlerMethod));
+        }
+        return unmapped;
+    }
+
+    /**
+     * Resolves the cost of every request handler once the application context has been refreshed.
+     *
+     * @param event the refresh event
+     */
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> registerAll(mapping.getHandlerMethods().values()));
+    }
+
+    /**
+     * Resolves the cost of each handler, validating its declared and configured cost.
+     *
+     * @param handlerMethods the handlers
+     * @throws IllegalStateException if a handler's cost is negative or above the burst size
+     */
+    public void registerAll(Collection<HandlerMethod> handlerMethods) {
+        handlerMethods.forEach(this::resolve);
+    }
+
+    /**
+     * Changes the cost of an endpoint until the application restarts or the cost is reset.
+     *
+     * @param endpoint the endpoint name
+     * @param cost the new cost
+     * @throws IllegalArgumentException if the endpoint is unknown or the cost is negative or above the burst size
+     */
+    public void setCost(String endpoint, int cost) {
+        if (cost < 0 || cost > maxCost) {
+            throw new IllegalArgumentException("Cost must be between 0 and the burst size " + maxCost + ": " + cost);
+        }
+        if (endpoints.values().stream().noneMatch(endpointCost -> endpointCost.getName().equals(endpoint))) {
+            throw new IllegalArgumentException("Unknown endpoint: " + endpoint);
+        }
+        overrides.put(endpoint, cost);
+        endpoints.values().stream()
+                .filter(endpointCost -> endpointCost.getName().equals(endpoint))
+                .forEach(endpointCost -> endpointCost.cost = cost);
+    }
+
+    /**
+     * Drops a cost set at runtime, going back to the configured or declared cost.
+     *
+     * @param endpoint the endpoint name
+     */
+    public void resetCost(String endpoint) {
+        overrides.remove(endpoint);
+        endpoints.values().stream()
+                .filter(endpointCost -> endpointCost.getName().equals(endpoint))
+                .forEach(endpointCost -> endpointCost.cost = endpointCost.configuredCost);
+    }
+
+    /**
+     * @return the current cost of every registered endpoint
+     */
+    public Map<String, Integer> getCosts() {
+        Map<String, Integer> costs = new TreeMap<>(overrides);
+        endpoints.values().forEach(endpointCost -> costs.put(endpointCost.getName(), endpointCost.getCost()));
+        return costs;
+    }
+
+    private EndpointCost register(HandlerMethod handlerMethod) {
+        String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        RateLimitCost declared = handlerMethod.getMethodAnnotation(RateLimitCost.class);
+        int configuredCost = environment.getProperty(PROPERTY_PREFIX + name, Integer.class,
+                declared != null ? declared.value() : 1);
+        if (configuredCost < 0 || configuredCost > maxCost) {
+            throw new IllegalStateException("Cost of " + name + " must be between 0 and the burst size "
+                    + maxCost + ": " + configuredCost);
+        }
+        EndpointCost endpointCost = new EndpointCost(name, configuredCost);
+        Integer override = overrides.get(name);
+        if (override != null) {
+            endpointCost.cost = override;
+        }
+        return endpointCost;
+    }
+
+    /**
+     * Cost of a single endpoint and the counter of tokens it consumed.
+     */
+    public final class EndpointCost {
+
+        private final String name;
+
+        private final int configuredCost;
+
+        private final Counter consumed;
+
+        private volatile int cost;
+
+        private EndpointCost(String name, int configuredCost) {
+            this.name = name;
+            this.configuredCost = configuredCost;
+            this.cost = configuredCost;
+            this.consumed = Counter.builder(CONSUMED_METRIC)
+                    .description("Rate limiting tokens consumed by admitted requests")
+                    .baseUnit("tokens")
+                    .tag("endpoint", name)
+                    .register(meterRegistry);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        /**
+         * Records that a request to this endpoint was admitted.
+         *
+         * @param tokens the tokens it consumed
+         */
+        public void recordConsumed(int tokens) {
+            consumed.increment(tokens);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limiter implementing the generic cell rate algorithm (GCRA).
+ * <p>
+ * The only state is the theoretical arrival time (TAT): the instant at which the client would have
+ * used up nothing if it had sent its requests exactly one emission interval apart. A request for
+ * {@code n} tokens moves the TAT {@code n} intervals ahead, and is rejected if that would put it
+ * further ahead of now than the burst tolerance. Tokens therefore come back continuously instead
+ * of all at once at a window boundary, and consuming is one compare-and-set without allocation.
+ */
+public final class GcraBucket implements RateLimitBucket {
+
+    private final int capacity;
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    // Theoretical arrival time on the System.nanoTime() scale
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param capacity the number of tokens granted per period
+     * @param burst the largest number of tokens that can be consumed back to back
+     * @param period the period
+     */
+    public GcraBucket(int capacity, int burst, Duration period) {
+        this(capacity, burst, period, System.nanoTime());
+    }
+
+    GcraBucket(int capacity, int burst, Duration period, long nowNanos) {
+        if (capacity <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Capacity and burst must be positive: " + capacity + ", " + burst);
+        }
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        this.capacity = capacity;
+        this.burst = burst;
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    @Override
+    public boolean tryConsume(int tokenCount) {
+        return tryConsume(tokenCount, System.nanoTime());
+    }
+
+    boolean tryConsume(int tokenCount, long nowNanos) {
+        long increment = emissionIntervalNanos * tokenCount;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat - nowNanos, 0) + nowNanos + increment;
+            if (newTat - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int getAvailableTokens() {
+        return getAvailableTokens(System.nanoTime());
+    }
+
+    int getAvailableTokens(long nowNanos) {
+        long ahead = Math.max(theoreticalArrival.get() - nowNanos, 0);
+        return (int) ((burstToleranceNanos - ahead) / emissionIntervalNanos);
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the largest number of tokens that can be consumed back to back
+     */
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,52 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * {@link BucketStore} keeping the buckets in this JVM. It stands in for a shared store when all
+ * nodes run in one process, such as in tests, and shows the semantics a remote store must provide.
+ */
+public class InMemoryBucketStore implements BucketStore {
+
+    private final Cache<String, RateLimitBucket> buckets;
+    private final RateLimitAlgorithm algorithm;
+    private final int capacity;
+    private final int burst;
+    private final Duration period;
+
+    public InMemoryBucketStore(RateLimitAlgorithm algorithm, int capacity, int burst, Duration period, long maxClients) {
+        this.algorithm = algorithm;
+        this.capacity = capacity;
+        this.burst = burst;
+        this.period = period;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(algorithm.refillTime(capacity, burst, period))
+                .build();
+    }
+
+    @Override
+    public int tryAcquire(String clientKey, int minTokens, int maxTokens) {
+        RateLimitBucket bucket = buckets.get(clientKey, key -> algorithm.newBucket(capacity, burst, period));
+        while (true) {
+            int available = bucket.getAvailableTokens();
+            if (available < minTokens) {
+                return 0;
+            }
+            int tokens = Math.min(available, maxTokens);
+            // Fails only if another node took tokens in between, in which case look again
+            if (bucket.tryConsume(tokens)) {
+                return tokens;
+            }
+        }
+    }
+
+    @Override
+    public int getAvailableTokens(String clientKey) {
+        RateLimitBucket bucket = buckets.getIfPresent(clientKey);
+        return bucket == null ? burst : bucket.getAvailableTokens();
+    }
+}
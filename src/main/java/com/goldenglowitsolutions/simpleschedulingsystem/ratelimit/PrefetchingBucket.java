@@ -0,0 +1,69 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node-local view of a client's bucket in a {@link BucketStore}.
+ * <p>
+ * Tokens are taken from the store in batches of up to {@code prefetch} and then consumed locally
+ * with a compare-and-set, so most requests never reach the store. A batch only holds tokens the
+ * store already granted, so all nodes together never admit more than the shared budget; the price
+ * is that up to {@code prefetch - 1} tokens a node holds cannot be used by another node, and are
+ * lost if the client goes idle and the local bucket expires.
+ */
+public final class PrefetchingBucket implements RateLimitBucket {
+
+    private final BucketStore store;
+    private final String clientKey;
+    private final int capacity;
+    private final int prefetch;
+
+    private final AtomicInteger prefetched = new AtomicInteger();
+
+    /**
+     * @param store the shared store
+     * @param clientKey the client
+     * @param capacity the number of tokens granted per period
+     * @param prefetch the number of tokens taken from the store at once
+     */
+    public PrefetchingBucket(BucketStore store, String clientKey, int capacity, int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("Prefetch must be positive: " + prefetch);
+        }
+        this.store = store;
+        this.clientKey = clientKey;
+        this.capacity = capacity;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public boolean tryConsume(int tokenCount) {
+        while (true) {
+            int local = prefetched.get();
+            if (local >= tokenCount) {
+                if (prefetched.compareAndSet(local, local - tokenCount)) {
+                    return true;
+                }
+                continue;
+            }
+
+            // Take at least the shortfall, and a batch for the next requests if the store has it
+            int shortfall = tokenCount - local;
+            int granted = store.tryAcquire(clientKey, shortfall, Math.max(shortfall, prefetch));
+            if (granted == 0) {
+                return false;
+            }
+            prefetched.addAndGet(granted);
+        }
+    }
+
+    @Override
+    public int getAvailableTokens() {
+        return prefetched.get() + store.getAvailableTokens(clientKey);
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,59 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Refill strategies selectable with {@code app.ratelimiting.algorithm}.
+ */
+public enum RateLimitAlgorithm {
+
+    /**
+     * Refills the whole capacity at the start of every period. Cheap, but a client can spend two
+     * budgets back to back around a window boundary.
+     */
+    FIXED_WINDOW {
+        @Override
+        public RateLimitBucket newBucket(int capacity, int burst, Duration period) {
+            return new TokenBucket(capacity, period);
+        }
+
+        @Override
+        public Duration refillTime(int capacity, int burst, Duration period) {
+            return period;
+        }
+    },
+
+    /**
+     * Generic cell rate algorithm: tokens trickle back one emission interval at a time and at most
+     * {@code burst} requests can be sent back to back.
+     */
+    GCRA {
+        @Override
+        public RateLimitBucket newBucket(int capacity, int burst, Duration period) {
+            return new GcraBucket(capacity, burst, period);
+        }
+
+        @Override
+        public Duration refillTime(int capacity, int burst, Duration period) {
+            return period.dividedBy(capacity).multipliedBy(burst);
+        }
+    };
+
+    /**
+     * Creates a bucket with all its tokens available.
+     *
+     * @param capacity the number of tokens granted per period
+     * @param burst the largest number of tokens that can be available at once
+     * @param period the period
+     * @return the bucket
+     */
+    public abstract RateLimitBucket newBucket(int capacity, int burst, Duration period);
+
+    /**
+     * @param capacity the number of tokens granted per period
+     * @param burst the largest number of tokens that can be available at once
+     * @param period the period
+     * @return how long an unused bucket takes to become full again
+     */
+    public abstract Duration refillTime(int capacity, int burst, Duration period);
+}
@@ -0,0 +1,29 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+/**
+ * Budget of requests of a single client.
+ */
+public interface RateLimitBucket {
+
+    /**
+     * Try to consume tokens from the bucket.
+     *
+     * @param tokenCount number of tokens to consume
+     * @return true if successful, false otherwise
+     */
+    boolean tryConsume(int tokenCount);
+
+    /**
+     * Get the available tokens.
+     *
+     * @return number of tokens that could be consumed right now
+     */
+    int getAvailableTokens();
+
+    /**
+     * Get the capacity of the bucket.
+     *
+     * @return the largest number of tokens that can be available at once
+     */
+    int getCapacity();
+}
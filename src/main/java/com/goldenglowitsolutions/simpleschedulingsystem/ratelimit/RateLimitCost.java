@@ -0,0 +1,24 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many rate limiting tokens a call of a controller method consumes, so expensive
+ * endpoints drain a client's budget faster than cheap ones. Methods without it cost one token.
+ * The cost can be overridden with {@code app.ratelimiting.costs.<Controller>.<method>} or at runtime
+ * through the {@code ratelimitcosts} actuator endpoint.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimitCost {
+
+    /**
+     * @return the number of tokens a call consumes, zero for free
+     */
+    int value();
+}
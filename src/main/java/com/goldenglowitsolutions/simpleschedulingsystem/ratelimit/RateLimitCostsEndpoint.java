@@ -0,0 +1,69 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for adjusting rate limiting costs at runtime.
+ * <p>
+ * {@code GET /actuator/ratelimitcosts} lists the current costs, {@code POST
+ * /actuator/ratelimitcosts/{endpoint}} with a {@code cost} sets the cost of an endpoint such as
+ * {@code StudentController.getAllStudents} and {@code DELETE /actuator/ratelimitcosts/{endpoint}}
+ * goes back to its configured cost.
+ */
+@Component
+@Endpoint(id = "ratelimitcosts")
+public class RateLimitCostsEndpoint {
+
+    private final EndpointCosts endpointCosts;
+
+    public RateLimitCostsEndpoint(EndpointCosts endpointCosts) {
+        this.endpointCosts = endpointCosts;
+    }
+
+    /**
+     * @return the current costs keyed by endpoint
+     */
+    @ReadOperation
+    public Map<String, Integer> costs() {
+        return endpointCosts.getCosts();
+    }
+
+    /**
+     * Sets the cost of an endpoint.
+     *
+     * @param endpoint the endpoint name
+     * @param cost the tokens a call consumes
+     * @return the endpoint and its new cost
+     */
+    @WriteOperation
+    public Map<String, Object> setCost(@Selector String endpoint, int cost) {
+        try {
+            endpointCosts.setCost(endpoint, cost);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("endpoint", endpoint);
+        result.put("cost", cost);
+        return result;
+    }
+
+    /**
+     * Goes back to the configured cost of an endpoint.
+     *
+     * @param endpoint the endpoint name
+     */
+    @DeleteOperation
+    public void resetCost(@Selector String endpoint) {
+        endpointCosts.resetCost(endpoint);
+    }
+}
@@ -0,0 +1,25 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how readily requests to a controller method are shed by the {@link AdaptiveConcurrencyLimiter}.
+ * Methods without it are {@link Priority#NORMAL}; unbounded lists, full scans and batch writes are
+ * marked {@link Priority#BULK} so they give way to everything else when the application is overloaded.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SheddingPriority {
+
+    /**
+     * @return the priority of the method's requests
+     */
+    Priority value();
+}
@@ -0,0 +1,93 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket that refills to its full capacity at the start of every period.
+ * <p>
+ * The current refill window and the tokens left in it are packed into a single {@code long}, so
+ * consuming is one compare-and-set on the uncontended path and never blocks or allocates.
+ */
+public final class TokenBucket implements RateLimitBucket {
+
+    private final int capacity;
+    private final long periodNanos;
+    private final long createdNanos;
+
+    // High 32 bits: index of the refill window since creation, low 32 bits: tokens left in it
+    private final AtomicLong state;
+
+    public TokenBucket(int capacity, Duration period) {
+        this(capacity, period, System.nanoTime());
+    }
+
+    TokenBucket(int capacity, Duration period, long nowNanos) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be positive: " + period);
+        }
+        this.capacity = capacity;
+        this.periodNanos = period.toNanos();
+        this.createdNanos = nowNanos;
+        this.state = new AtomicLong(pack(0, capacity));
+    }
+
+    @Override
+    public boolean tryConsume(int tokenCount) {
+        return tryConsume(tokenCount, System.nanoTime());
+    }
+
+    boolean tryConsume(int tokenCount, long nowNanos) {
+        int window = windowAt(nowNanos);
+        while (true) {
+            long current = state.get();
+            // A thread that read the clock before another one moved to a newer window must not move it back
+            int currentWindow = Math.max(window(current), window);
+            int available = available(current, currentWindow);
+            if (available < tokenCount) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(currentWindow, available - tokenCount))) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public int getAvailableTokens() {
+        return getAvailableTokens(System.nanoTime());
+    }
+
+    int getAvailableTokens(long nowNanos) {
+        long current = state.get();
+        return available(current, Math.max(window(current), windowAt(nowNanos)));
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private int windowAt(long nowNanos) {
+        return (int) ((nowNanos - createdNanos) / periodNanos);
+    }
+
+    private int available(long state, int window) {
+        return window(state) == window ? tokens(state) : capacity;
+    }
+
+    private static long pack(int window, int tokens) {
+        return ((long) window << 32) | (tokens & 0xFFFFFFFFL);
+    }
+
+    private static int window(long state) {
+        return (int) (state >>> 32);
+    }
+
+    private static int tokens(long state) {
+        return (int) state;
+    }
+}
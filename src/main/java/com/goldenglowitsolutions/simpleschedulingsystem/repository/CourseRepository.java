@@ -1,16 +1,31 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.repository;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for Course entity providing CRUD operations and custom queries.
  */
 public interface CourseRepository extends JpaRepository<Course, String> {
+
+    /**
+     * Find a course by code, fetching the enrolled students in the same query.
+     *
+     * @param code the course code
+     * @return the course with its students initialized, if found
+     */
+    @EntityGraph(attributePaths = "students")
+    Optional<Course> findWithStudentsByCode(String code);
     
     /**
      * Find courses by student ID.
@@ -22,12 +37,15 @@ public interface CourseRepository extends JpaRepository<Course, String> {
     List<Course> findByStudentId(@Param("studentId") Long studentId);
     
     /**
-     * Find courses not taken by a student.
+     * Find courses not taken by a student, using a correlated NOT EXISTS anti-join.
+     * Returns no rows when the student does not exist.
      *
      * @param studentId the student ID
      * @return a list of courses the student is not enrolled in
      */
-    @Query("SELECT c FROM Course c WHERE c NOT IN (SELECT c FROM Course c JOIN c.students s WHERE s.id = :studentId)")
+    @Query("SELECT c FROM Course c " +
+            "WHERE NOT EXISTS (SELECT 1 FROM Enrollment e WHERE e.id.courseCode = c.code AND e.id.studentId = :studentId) " +
+            "AND EXISTS (SELECT 1 FROM Student s WHERE s.id = :studentId)")
     List<Course> findCoursesNotTakenByStudent(@Param("studentId") Long studentId);
     
     /**
@@ -38,4 +56,34 @@ public interface CourseRepository extends JpaRepository<Course, String> {
      */
     List<Course> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
             String searchTerm, String searchTerm1);
-} 
\ No newline at end of file
+
+    /**
+     * Find all courses as DTOs without loading managed entities.
+     *
+     * @return a list of all courses
+     */
+    @Query("SELECT new com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO(c.code, c.title, c.description) " +
+            "FROM Course c")
+    List<CourseDTO> findAllDTOs();
+
+    /**
+     * Find which of the given codes belong to existing courses.
+     *
+     * @param codes the course codes to check
+     * @return the subset of codes that exist
+     */
+    @Query("SELECT c.code FROM Course c WHERE c.code IN :codes")
+    Set<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    /**
+     * Delete a course without loading it or its students. Hibernate removes the
+     * course's student_courses rows with one set-based statement before deleting
+     * the course row itself.
+     *
+     * @param code the course code
+     * @return the number of courses deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Course c WHERE c.code = :code")
+    int deleteByCode(@Param("code") String code);
+}
@@ -0,0 +1,55 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.EnrollmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for Enrollment entity providing row-level access to the student_courses join table.
+ */
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
+
+    /**
+     * Find the enrollment keys of the given students.
+     *
+     * @param studentIds the student IDs
+     * @return the keys of all enrollments of those students
+     */
+    @Query("SELECT e.id FROM Enrollment e WHERE e.id.studentId IN :studentIds")
+    List<EnrollmentId> findIdsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
+    /**
+     * Find the codes of the courses a student is enrolled in.
+     *
+     * @param studentId the student ID
+     * @return the course codes
+     */
+    @Query("SELECT e.id.courseCode FROM Enrollment e WHERE e.id.studentId = :studentId")
+    List<String> findCourseCodesByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Find the IDs of the students enrolled in a course.
+     *
+     * @param courseCode the course code
+     * @return the student IDs
+     */
+    @Query("SELECT e.id.studentId FROM Enrollment e WHERE e.id.courseCode = :courseCode")
+    List<Long> findStudentIdsByCourseCode(@Param("courseCode") String courseCode);
+
+    /**
+     * Delete a single enrollment without loading the student or the course.
+     *
+     * @param studentId the student ID
+     * @param courseCode the course code
+     * @return the number of enrollments deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Enrollment e WHERE e.id.studentId = :studentId AND e.id.courseCode = :courseCode")
+    int deleteByStudentIdAndCourseCode(@Param("studentId") Long studentId, @Param("courseCode") String courseCode);
+}
@@ -0,0 +1,47 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the roster change log.
+ */
+public interface RosterChangeRepository extends JpaRepository<RosterChange, Long> {
+
+    /**
+     * Find the changes after a given entry.
+     *
+     * @param commitPosition the commit position of the last entry already seen
+     * @param id the ID of the last entry already seen
+     * @param limit the maximum number of entries
+     * @return the changes in commit position and ID order
+     */
+    @Query("SELECT c FROM RosterChange c WHERE c.commitPosition > :commitPosition "
+            + "OR (c.commitPosition = :commitPosition AND c.id > :id) ORDER BY c.commitPosition, c.id")
+    List<RosterChange> findAfter(@Param("commitPosition") long commitPosition, @Param("id") long id, Limit limit);
+
+    /**
+     * Find the newest change.
+     *
+     * @return the change with the highest commit position and ID, if any
+     */
+    Optional<RosterChange> findFirstByCommitPositionNotNullOrderByCommitPositionDescIdDesc();
+
+    /**
+     * Delete the changes written before the given time.
+     *
+     * @param cutoff the oldest write time to keep
+     * @return the number of deleted changes
+     */
+    @Modifying
+    @Query("DELETE FROM RosterChange c WHERE c.changedAt < :cutoff")
+    int deleteChangedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,26 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChangeWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository for the commit position of the roster change log.
+ */
+public interface RosterChangeWatermarkRepository extends JpaRepository<RosterChangeWatermark, Integer> {
+
+    /**
+     * Find the watermark and lock it until the current transaction ends.
+     *
+     * @param id the ID of the watermark row
+     * @return the locked watermark, or empty if the row does not exist yet
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM RosterChangeWatermark w WHERE w.id = :id")
+    Optional<RosterChangeWatermark> findForUpdate(@Param("id") Integer id);
+}
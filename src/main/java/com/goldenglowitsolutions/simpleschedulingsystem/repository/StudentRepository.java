@@ -1,16 +1,34 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.repository;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository for Student entity providing CRUD operations and custom queries.
  */
 public interface StudentRepository extends JpaRepository<Student, Long> {
+
+    /**
+     * Find a student by ID, fetching the enrolled courses in the same query.
+     *
+     * @param id the student ID
+     * @return the student with its courses initialized, if found
+     */
+    @EntityGraph(attributePaths = "courses")
+    Optional<Student> findWithCoursesById(Long id);
     
     /**
      * Find students by course code.
@@ -29,4 +47,69 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     List<Student> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
             String searchTerm, String searchTerm1, String searchTerm2);
-} 
\ No newline at end of file
+
+    /**
+     * Find all students as DTOs without loading managed entities.
+     *
+     * @return a list of all students
+     */
+    @Query("SELECT new com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO(s.id, s.firstName, s.lastName, s.email) " +
+            "FROM Student s")
+    List<StudentDTO> findAllDTOs();
+
+    /**
+     * Find students enrolled in a course as DTOs without loading managed entities.
+     *
+     * @param courseCode the course code
+     * @return a list of students enrolled in the course
+     */
+    @Query("SELECT new com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO(s.id, s.firstName, s.lastName, s.email) " +
+            "FROM Student s JOIN s.courses c WHERE c.code = :courseCode")
+    List<StudentDTO> findDTOsByCourseCode(@Param("courseCode") String courseCode);
+
+    /**
+     * Find students whose first name, last name, or email contains the search term, as DTOs
+     * without loading managed entities. The search is case-insensitive and LIKE wildcards
+     * in the term are escaped.
+     *
+     * @param searchTerm the search term
+     * @param pageable the page of results to return
+     * @return a list of students matching the search term, ordered by last name, first name and ID
+     */
+    @Query("SELECT new com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO(s.id, s.firstName, s.lastName, s.email) " +
+            "FROM Student s " +
+            "WHERE LOWER(s.firstName) LIKE LOWER(CONCAT('%', ?#{escape([0])}, '%')) ESCAPE ?#{escapeCharacter()} " +
+            "OR LOWER(s.lastName) LIKE LOWER(CONCAT('%', ?#{escape([0])}, '%')) ESCAPE ?#{escapeCharacter()} " +
+            "OR LOWER(s.email) LIKE LOWER(CONCAT('%', ?#{escape([0])}, '%')) ESCAPE ?#{escapeCharacter()} " +
+            "ORDER BY s.lastName, s.firstName, s.id")
+    List<StudentDTO> searchDTOs(String searchTerm, Pageable pageable);
+
+    /**
+     * Scroll through students ordered by last name and ID using keyset pagination.
+     * Seeking past the last seen (lastName, id) pair keeps deep pages as cheap as the
+     * first one and does not issue a count query.
+     *
+     * @param position the position to continue from
+     * @param limit the maximum number of students to return
+     * @return a window of students after the given position
+     */
+    Window<Student> findAllByOrderByLastNameAscIdAsc(ScrollPosition position, Limit limit);
+
+    /**
+     * Find which of the given emails are already registered.
+     *
+     * @param emails the emails to check
+     * @return the subset of emails that belong to existing students
+     */
+    @Query("SELECT s.email FROM Student s WHERE s.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Find which of the given IDs belong to existing students.
+     *
+     * @param ids the student IDs to check
+     * @return the subset of IDs that exist
+     */
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
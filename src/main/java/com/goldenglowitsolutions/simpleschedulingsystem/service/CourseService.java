@@ -1,6 +1,9 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.service;
 
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 /**
@@ -55,6 +58,15 @@ public interface CourseService {
      */
     List<CourseDTO> getCoursesByStudentId(Long studentId);
     
+    /**
+     * Search courses by title and description, most relevant first.
+     *
+     * @param query the search query
+     * @param pageable the page of results to return
+     * @return the page of matching courses
+     */
+    Page<CourseDTO> searchCourses(String query, Pageable pageable);
+    
     /**
      * Get courses not taken by a student.
      *
@@ -0,0 +1,22 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.service;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentBatchResultDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentRequestDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for managing enrollments in bulk.
+ */
+public interface EnrollmentService {
+
+    /**
+     * Enroll many students into courses at once. Requests that reference unknown
+     * students or courses are reported individually without aborting the batch,
+     * and enrollments that already exist are skipped.
+     *
+     * @param requests the students and the course codes to enroll them in
+     * @return the number of enrollments written and skipped, and the rejected requests
+     */
+    EnrollmentBatchResultDTO enrollAll(List<EnrollmentRequestDTO> requests);
+}
@@ -1,5 +1,8 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.service;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.RosterChangeDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentBatchResultDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,14 +28,34 @@ public interface StudentService {
      * @return a page of students
      */
     Page<StudentDTO> getPagedStudents(Pageable pageable);
+
+    /**
+     * Get a page of students ordered by last name, continuing after the given cursor.
+     *
+     * @param cursor the opaque cursor returned with the previous page, or null for the first page
+     * @param size the maximum number of students to return
+     * @param includeTotal whether to also count all students
+     * @return a cursor page of students
+     */
+    CursorPageDTO<StudentDTO> scrollStudents(String cursor, int size, boolean includeTotal);
+
+    /**
+     * Get the student, course and enrollment changes made after the given token.
+     *
+     * @param since the token returned with the previous changes, or null to get a token for the current state
+     * @param limit the maximum number of changes to return
+     * @return a cursor page of changes whose next cursor is the token for the following changes
+     */
+    CursorPageDTO<RosterChangeDTO> getChanges(String since, int limit);
     
     /**
-     * Search for students by query.
+     * Search for students by query, best matches first.
      *
      * @param query the search query
+     * @param limit the maximum number of students to return
      * @return a list of students matching the query
      */
-    List<StudentDTO> searchStudents(String query);
+    List<StudentDTO> searchStudents(String query, int limit);
     
     /**
      * Get a student by ID.
@@ -49,6 +72,15 @@ public interface StudentService {
      * @return the created student
      */
     StudentDTO createStudent(StudentDTO studentDTO);
+
+    /**
+     * Create many students at once. Invalid rows and rows whose email is already
+     * taken are reported individually without aborting the rest of the batch.
+     *
+     * @param studentDTOs the students to create
+     * @return the created students and the rejected rows
+     */
+    StudentBatchResultDTO createStudents(List<StudentDTO> studentDTOs);
     
     /**
      * Update an existing student.
@@ -74,6 +106,14 @@ public interface StudentService {
      * @return the student with the assigned courses
      */
     StudentDTO assignCourses(Long studentId, List<String> courseCodes);
+
+    /**
+     * Remove a single course from a student.
+     *
+     * @param studentId the student ID
+     * @param courseCode the course code to remove
+     */
+    void unassignCourse(Long studentId, String courseCode);
     
     /**
      * Get all courses for a student.
@@ -1,19 +1,31 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.service.impl;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
 import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.CourseCatalogIndex;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.CourseSearchIndex;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.CourseService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -24,28 +36,50 @@ public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
-
-    public CourseServiceImpl(CourseRepository courseRepository, StudentRepository studentRepository) {
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseCatalogIndex courseCatalogIndex;
+    private final CourseSearchIndex courseSearchIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final NegativeCache negativeCache;
+    private final DataVersions dataVersions;
+    private final RosterChangeLog rosterChangeLog;
+
+    public CourseServiceImpl(CourseRepository courseRepository, StudentRepository studentRepository,
+                             EnrollmentRepository enrollmentRepository, CourseCatalogIndex courseCatalogIndex,
+                             CourseSearchIndex courseSearchIndex, CacheInvalidator cacheInvalidator,
+                             NegativeCache negativeCache, DataVersions dataVersions,
+                             RosterChangeLog rosterChangeLog) {
         this.courseRepository = courseRepository;
         this.studentRepository = studentRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseCatalogIndex = courseCatalogIndex;
+        this.courseSearchIndex = courseSearchIndex;
+        this.cacheInvalidator = cacheInvalidator;
+        this.negativeCache = negativeCache;
+        this.dataVersions = dataVersions;
+        this.rosterChangeLog = rosterChangeLog;
     }
 
     @Override
+    @Cacheable(value = "courseCatalog", key = "'all'", sync = true)
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return courseRepository.findAllDTOs();
     }
 
     @Override
+    @Cacheable(value = "courses", key = "#code", sync = true)
     public CourseDTO getCourseByCode(String code) {
-        Course course = courseRepository.findById(code)
-                .orElseThrow(() -> new EntityNotFoundException("Course not found with code: " + code));
+        Course course = courseRepository.findById(code).orElse(null);
+        if (course == null) {
+            negativeCache.markMissing(Course.class, code);
+            throw new EntityNotFoundException("Course not found with code: " + code, false);
+        }
         return convertToDTO(course);
     }
 
     @Override
     @Transactional
+    @CachePut(value = "courses", key = "#result.code")
     public CourseDTO createCourse(CourseDTO courseDTO) {
         Course course = new Course();
         course.setCode(courseDTO.getCode());
@@ -53,11 +87,21 @@ public class CourseServiceImpl implements CourseService {
         course.setDescription(courseDTO.getDescription());
 
         Course savedCourse = courseRepository.save(course);
-        return convertToDTO(savedCourse);
+        CourseDTO savedCourseDTO = convertToDTO(savedCourse);
+        rosterChangeLog.record(RosterChange.Type.COURSE_CREATED, null, savedCourse.getCode());
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictCourseCatalog();
+            negativeCache.forget(Course.class, savedCourseDTO.getCode());
+            courseCatalogIndex.put(savedCourseDTO);
+            courseSearchIndex.put(savedCourseDTO);
+            dataVersions.bump(Aggregate.COURSES);
+        });
+        return savedCourseDTO;
     }
 
     @Override
     @Transactional
+    @CachePut(value = "courses", key = "#code")
     public CourseDTO updateCourse(String code, CourseDTO courseDTO) {
         Course course = courseRepository.findById(code)
                 .orElseThrow(() -> new EntityNotFoundException("Course not found with code: " + code));
@@ -66,30 +110,39 @@ public class CourseServiceImpl implements CourseService {
         course.setDescription(courseDTO.getDescription());
 
         Course updatedCourse = courseRepository.save(course);
-        return convertToDTO(updatedCourse);
+        CourseDTO updatedCourseDTO = convertToDTO(updatedCourse);
+        rosterChangeLog.record(RosterChange.Type.COURSE_UPDATED, null, code);
+        List<Long> studentIds = enrollmentRepository.findStudentIdsByCourseCode(code);
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictCourseCatalog();
+            courseCatalogIndex.put(updatedCourseDTO);
+            courseSearchIndex.put(updatedCourseDTO);
+            cacheInvalidator.courseUpdated(code, studentIds);
+            dataVersions.bump(Aggregate.COURSES);
+        });
+        return updatedCourseDTO;
     }
 
     @Override
     @Transactional
+    @CacheEvict(value = "courses", key = "#code")
     public void deleteCourse(String code) {
-        Course course = courseRepository.findById(code)
-                .orElseThrow(() -> new EntityNotFoundException("Course not found with code: " + code));
-        
-        // Make a copy of students to avoid concurrent modification issues
-        Set<Student> students = new HashSet<>(course.getStudents());
-        
-        // Remove this course from all students to avoid foreign key constraint violation
-        for (Student student : students) {
-            student.getCourses().remove(course);
-            studentRepository.save(student);
+        // Only the enrolled student IDs are read, to evict their cached course lists
+        List<Long> studentIds = enrollmentRepository.findStudentIdsByCourseCode(code);
+
+        // Bulk delete: the join rows go in one statement, so no enrolled student is loaded
+        if (courseRepository.deleteByCode(code) == 0) {
+            throw new EntityNotFoundException("Course not found with code: " + code);
         }
-        
-        // Clear the students collection on the course side
-        course.getStudents().clear();
-        courseRepository.save(course);
-        
-        // Now delete the course
-        courseRepository.deleteById(code);
+        rosterChangeLog.record(RosterChange.Type.COURSE_DELETED, null, code);
+
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictCourseCatalog();
+            courseCatalogIndex.remove(code);
+            courseSearchIndex.remove(code);
+            cacheInvalidator.courseDeleted(code, studentIds);
+            dataVersions.bump(Aggregate.COURSES, Aggregate.ENROLLMENTS);
+        });
     }
 
     @Override
@@ -103,20 +156,36 @@ public class CourseServiceImpl implements CourseService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Page<CourseDTO> searchCourses(String query, Pageable pageable) {
+        return courseSearchIndex.search(query, pageable);
+    }
+
     @Override
     public List<CourseDTO> getCoursesNotTakenByStudent(Long studentId) {
-        if (!studentRepository.existsById(studentId)) {
+        if (courseCatalogIndex.isEnabled()) {
+            List<String> takenCodes = enrollmentRepository.findCourseCodesByStudentId(studentId);
+            if (takenCodes.isEmpty() && !studentRepository.existsById(studentId)) {
+                throw new EntityNotFoundException("Student not found with ID: " + studentId);
+            }
+            return courseCatalogIndex.complementOf(takenCodes);
+        }
+
+        // The anti-join returns nothing for an unknown student, so only an empty result needs the existence check
+        List<Course> courses = courseRepository.findCoursesNotTakenByStudent(studentId);
+        if (courses.isEmpty() && !studentRepository.existsById(studentId)) {
             throw new EntityNotFoundException("Student not found with ID: " + studentId);
         }
 
-        return courseRepository.findCoursesNotTakenByStudent(studentId).stream()
+        return courses.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Cacheable(value = "courseRosters", key = "#code", sync = true)
     public CourseDTO getCourseWithStudents(String code) {
-        Course course = courseRepository.findById(code)
+        Course course = courseRepository.findWithStudentsByCode(code)
                 .orElseThrow(() -> new EntityNotFoundException("Course not found with code: " + code));
 
         CourseDTO courseDTO = convertToDTO(course);
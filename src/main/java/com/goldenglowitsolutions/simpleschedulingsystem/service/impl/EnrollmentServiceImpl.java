@@ -0,0 +1,147 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.service.impl;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.BatchFailureDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentBatchResultDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentRequestDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.EnrollmentId;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.BadRequestException;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.EnrollmentService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the EnrollmentService interface.
+ */
+@Service
+public class EnrollmentServiceImpl implements EnrollmentService {
+
+    private static final int MAX_BATCH_SIZE = 50000;
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final CacheInvalidator cacheInvalidator;
+    private final DataVersions dataVersions;
+    private final RosterChangeLog rosterChangeLog;
+
+    public EnrollmentServiceImpl(EnrollmentRepository enrollmentRepository, StudentRepository studentRepository,
+                                 CourseRepository courseRepository, CacheInvalidator cacheInvalidator,
+                                 DataVersions dataVersions, RosterChangeLog rosterChangeLog) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.dataVersions = dataVersions;
+        this.rosterChangeLog = rosterChangeLog;
+    }
+
+    @Override
+    @Transactional
+    public EnrollmentBatchResultDTO enrollAll(List<EnrollmentRequestDTO> requests) {
+        int requestedEnrollments = requests.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(request -> request.getCourseCodes() == null ? 0 : request.getCourseCodes().size())
+                .sum();
+        if (requestedEnrollments > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must not exceed " + MAX_BATCH_SIZE + " enrollments");
+        }
+
+        Set<Long> studentIds = requests.stream()
+                .filter(request -> request != null && request.getStudentId() != null)
+                .map(EnrollmentRequestDTO::getStudentId)
+                .collect(Collectors.toSet());
+        Set<String> courseCodes = requests.stream()
+                .filter(request -> request != null && request.getCourseCodes() != null)
+                .flatMap(request -> request.getCourseCodes().stream())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        // Resolve every referenced key up front instead of once per request
+        Set<Long> existingStudentIds = InClauseChunks.collect(studentIds, studentRepository::findExistingIds);
+        Set<String> existingCourseCodes = InClauseChunks.collect(courseCodes, courseRepository::findExistingCodes);
+        Set<EnrollmentId> existingEnrollments = InClauseChunks.collect(
+                existingStudentIds, enrollmentRepository::findIdsByStudentIds);
+
+        List<BatchFailureDTO> failures = new ArrayList<>();
+        Set<EnrollmentId> newEnrollments = new LinkedHashSet<>();
+        int alreadyEnrolled = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            EnrollmentRequestDTO request = requests.get(i);
+            if (request == null || request.getStudentId() == null) {
+                failures.add(new BatchFailureDTO(i, "Student ID is required"));
+                continue;
+            }
+            if (request.getCourseCodes() == null || request.getCourseCodes().isEmpty()) {
+                failures.add(new BatchFailureDTO(i, "Course codes are required"));
+                continue;
+            }
+            if (!existingStudentIds.contains(request.getStudentId())) {
+                failures.add(new BatchFailureDTO(i, "Student not found with ID: " + request.getStudentId()));
+                continue;
+            }
+            List<String> notFoundCodes = request.getCourseCodes().stream()
+                    .filter(code -> !existingCourseCodes.contains(code))
+                    .collect(Collectors.toList());
+            if (!notFoundCodes.isEmpty()) {
+                failures.add(new BatchFailureDTO(i, "Courses not found with codes: " + notFoundCodes));
+                continue;
+            }
+            for (String courseCode : request.getCourseCodes()) {
+                EnrollmentId enrollmentId = new EnrollmentId(request.getStudentId(), courseCode);
+                if (existingEnrollments.contains(enrollmentId) || !newEnrollments.add(enrollmentId)) {
+                    alreadyEnrolled++;
+                }
+            }
+        }
+
+        // Assigned keys plus JDBC batching turn these into batched inserts of the join rows only
+        enrollmentRepository.saveAll(newEnrollments.stream()
+                .map(id -> new Enrollment(id.getStudentId(), id.getCourseCode()))
+                .collect(Collectors.toList()));
+        rosterChangeLog.recordAll(newEnrollments.stream()
+                .map(id -> new RosterChange(RosterChange.Type.ENROLLED, id.getStudentId(), id.getCourseCode()))
+                .collect(Collectors.toList()));
+
+        evictEnrollmentCaches(newEnrollments);
+        return new EnrollmentBatchResultDTO(newEnrollments.size(), alreadyEnrolled, failures);
+    }
+
+    /**
+     * Helper method to evict the cached enrollments of the affected students and courses
+     * once for the whole batch, after the transaction has committed.
+     *
+     * @param enrollments the enrollments written by the batch
+     */
+    private void evictEnrollmentCaches(Set<EnrollmentId> enrollments) {
+        if (enrollments.isEmpty()) {
+            return;
+        }
+        Set<Long> studentIds = new HashSet<>();
+        Set<String> courseCodes = new HashSet<>();
+        for (EnrollmentId enrollment : enrollments) {
+            studentIds.add(enrollment.getStudentId());
+            courseCodes.add(enrollment.getCourseCode());
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.enrollmentsChanged(studentIds, courseCodes);
+            dataVersions.bump(Aggregate.ENROLLMENTS);
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Helper for running IN-list queries over large key collections.
+ * Splits the keys so that each query stays well below JDBC driver parameter limits.
+ */
+final class InClauseChunks {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private InClauseChunks() {
+    }
+
+    /**
+     * Runs the query once per chunk of keys and collects all results.
+     *
+     * @param keys the keys to look up
+     * @param query the query to run for each chunk
+     * @param <K> the key type
+     * @param <R> the result type
+     * @return the union of all query results
+     */
+    static <K, R> Set<R> collect(Collection<K> keys, Function<List<K>, Collection<R>> query) {
+        Set<R> results = new HashSet<>();
+        List<K> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, keyList.size());
+            results.addAll(query.apply(keyList.subList(from, to)));
+        }
+        return results;
+    }
+}
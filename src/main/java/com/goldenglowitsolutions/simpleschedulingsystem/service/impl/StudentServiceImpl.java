@@ -1,23 +1,51 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.service.impl;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.BatchFailureDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.RosterChangeDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentBatchResultDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.EnrollmentId;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.BadRequestException;
 import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.StudentSearchIndex;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,20 +54,41 @@ import java.util.stream.Collectors;
 @Service
 public class StudentServiceImpl implements StudentService {
 
+    private static final int MAX_SCROLL_SIZE = 1000;
+
+    private static final int MAX_BATCH_SIZE = 10000;
+
+    private static final int MAX_SEARCH_LIMIT = 1000;
+
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final StudentSearchIndex studentSearchIndex;
+    private final CacheInvalidator cacheInvalidator;
+    private final NegativeCache negativeCache;
+    private final DataVersions dataVersions;
+    private final RosterChangeLog rosterChangeLog;
+    private final Validator validator;
 
-    public StudentServiceImpl(StudentRepository studentRepository, CourseRepository courseRepository) {
+    public StudentServiceImpl(StudentRepository studentRepository, CourseRepository courseRepository,
+                              EnrollmentRepository enrollmentRepository, StudentSearchIndex studentSearchIndex,
+                              CacheInvalidator cacheInvalidator, NegativeCache negativeCache,
+                              DataVersions dataVersions, RosterChangeLog rosterChangeLog, Validator validator) {
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.studentSearchIndex = studentSearchIndex;
+        this.cacheInvalidator = cacheInvalidator;
+        this.negativeCache = negativeCache;
+        this.dataVersions = dataVersions;
+        this.rosterChangeLog = rosterChangeLog;
+        this.validator = validator;
     }
 
     @Override
-    @Cacheable(value = "students", key = "'all'")
+    @Cacheable(value = "studentRoster", key = "'all'", sync = true)
     public List<StudentDTO> getAllStudents() {
-        return studentRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return studentRepository.findAllDTOs();
     }
     
     @Override
@@ -49,31 +98,58 @@ public class StudentServiceImpl implements StudentService {
     }
     
     @Override
-    public List<StudentDTO> searchStudents(String query) {
-        return studentRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
-                query, query, query).stream()
+    public CursorPageDTO<StudentDTO> scrollStudents(String cursor, int size, boolean includeTotal) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SCROLL_SIZE);
+        }
+
+        Window<Student> window = studentRepository.findAllByOrderByLastNameAscIdAsc(
+                decodeCursor(cursor), Limit.of(size));
+
+        List<StudentDTO> content = window.getContent().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encodeCursor(window.getContent().get(window.size() - 1))
+                : null;
+
+        CursorPageDTO<StudentDTO> page = new CursorPageDTO<>(content, nextCursor, nextCursor != null);
+        if (includeTotal) {
+            page.setTotalElements(studentRepository.count());
+        }
+        return page;
+    }
+
+    @Override
+    public CursorPageDTO<RosterChangeDTO> getChanges(String since, int limit) {
+        return rosterChangeLog.changesSince(since, limit);
+    }
+
+    @Override
+    public List<StudentDTO> searchStudents(String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (studentSearchIndex.isEnabled()) {
+            return studentSearchIndex.search(query, limit);
+        }
+        return studentRepository.searchDTOs(query, PageRequest.of(0, limit));
     }
 
     @Override
-    @Cacheable(value = "students", key = "#id")
+    @Cacheable(value = "students", key = "#id", sync = true)
     public StudentDTO getStudentById(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Student not found with ID: " + id));
+        Student student = studentRepository.findById(id).orElse(null);
+        if (student == null) {
+            negativeCache.markMissing(Student.class, id);
+            throw new EntityNotFoundException("Student not found with ID: " + id, false);
+        }
         return convertToDTO(student);
     }
 
     @Override
     @Transactional
-    @Caching(
-        evict = { 
-            @CacheEvict(value = "students", key = "'all'") 
-        },
-        put = { 
-            @CachePut(value = "students", key = "#result.id") 
-        }
-    )
+    @CachePut(value = "students", key = "#result.id")
     public StudentDTO createStudent(StudentDTO studentDTO) {
         Student student = new Student();
         student.setFirstName(studentDTO.getFirstName());
@@ -81,14 +157,80 @@ public class StudentServiceImpl implements StudentService {
         student.setEmail(studentDTO.getEmail());
         
         Student savedStudent = studentRepository.save(student);
-        return convertToDTO(savedStudent);
+        StudentDTO savedStudentDTO = convertToDTO(savedStudent);
+        rosterChangeLog.record(RosterChange.Type.STUDENT_CREATED, savedStudent.getId(), null);
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictStudentRoster();
+            negativeCache.forget(Student.class, savedStudentDTO.getId());
+            studentSearchIndex.put(savedStudentDTO);
+            dataVersions.bump(Aggregate.STUDENTS);
+        });
+        return savedStudentDTO;
+    }
+
+    @Override
+    @Transactional
+    public StudentBatchResultDTO createStudents(List<StudentDTO> studentDTOs) {
+        if (studentDTOs.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must not exceed " + MAX_BATCH_SIZE + " students");
+        }
+
+        List<BatchFailureDTO> failures = new ArrayList<>();
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < studentDTOs.size(); i++) {
+            StudentDTO studentDTO = studentDTOs.get(i);
+            if (studentDTO == null) {
+                failures.add(new BatchFailureDTO(i, "Student is required"));
+                continue;
+            }
+            Set<ConstraintViolation<StudentDTO>> violations = validator.validate(studentDTO);
+            if (!violations.isEmpty()) {
+                failures.add(new BatchFailureDTO(i, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "))));
+            } else if (candidates.putIfAbsent(studentDTO.getEmail(), i) != null) {
+                failures.add(new BatchFailureDTO(i, "Duplicate email in batch: " + studentDTO.getEmail()));
+            }
+        }
+
+        Set<String> existingEmails = InClauseChunks.collect(
+                candidates.keySet(), studentRepository::findExistingEmails);
+
+        List<Student> students = new ArrayList<>();
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            if (existingEmails.contains(candidate.getKey())) {
+                failures.add(new BatchFailureDTO(candidate.getValue(), "Email already exists: " + candidate.getKey()));
+                continue;
+            }
+            StudentDTO studentDTO = studentDTOs.get(candidate.getValue());
+            students.add(new Student(studentDTO.getFirstName(), studentDTO.getLastName(), studentDTO.getEmail()));
+        }
+
+        // Sequence ids are assigned without a round trip, so the flush sends the inserts in JDBC batches
+        List<StudentDTO> created = studentRepository.saveAllAndFlush(students).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+        rosterChangeLog.recordAll(created.stream()
+                .map(studentDTO -> new RosterChange(RosterChange.Type.STUDENT_CREATED, studentDTO.getId(), null))
+                .collect(Collectors.toList()));
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictStudentRoster();
+            created.forEach(studentDTO -> {
+                negativeCache.forget(Student.class, studentDTO.getId());
+                studentSearchIndex.put(studentDTO);
+            });
+            dataVersions.bump(Aggregate.STUDENTS);
+        });
+
+        failures.sort((a, b) -> Integer.compare(a.getIndex(), b.getIndex()));
+        return new StudentBatchResultDTO(created, failures);
     }
 
     @Override
     @Transactional
     @Caching(
         evict = { 
-            @CacheEvict(value = "students", key = "'all'"),
             @CacheEvict(value = "studentCourses", key = "#id", condition = "#id != null") 
         },
         put = { 
@@ -104,57 +246,95 @@ public class StudentServiceImpl implements StudentService {
         student.setEmail(studentDTO.getEmail());
         
         Student updatedStudent = studentRepository.save(student);
-        return convertToDTO(updatedStudent);
+        StudentDTO updatedStudentDTO = convertToDTO(updatedStudent);
+        rosterChangeLog.record(RosterChange.Type.STUDENT_UPDATED, id, null);
+        List<String> courseCodes = enrollmentRepository.findCourseCodesByStudentId(id);
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictStudentRoster();
+            studentSearchIndex.put(updatedStudentDTO);
+            cacheInvalidator.studentUpdated(id, courseCodes);
+            dataVersions.bump(Aggregate.STUDENTS);
+        });
+        return updatedStudentDTO;
     }
 
     @Override
     @Transactional
     @Caching(evict = {
         @CacheEvict(value = "students", key = "#id"),
-        @CacheEvict(value = "students", key = "'all'"),
-        @CacheEvict(value = "studentCourses", key = "#id"),
-        @CacheEvict(value = "courseStudents", allEntries = true)
+        @CacheEvict(value = "studentCourses", key = "#id")
     })
     public void deleteStudent(Long id) {
         if (!studentRepository.existsById(id)) {
             throw new EntityNotFoundException("Student not found with ID: " + id);
         }
+        List<String> courseCodes = enrollmentRepository.findCourseCodesByStudentId(id);
         studentRepository.deleteById(id);
+        rosterChangeLog.record(RosterChange.Type.STUDENT_DELETED, id, null);
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.evictStudentRoster();
+            studentSearchIndex.remove(id);
+            cacheInvalidator.studentDeleted(id, courseCodes);
+            dataVersions.bump(Aggregate.STUDENTS, Aggregate.ENROLLMENTS);
+        });
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "students", key = "#studentId"),
-        @CacheEvict(value = "students", key = "'all'"),
-        @CacheEvict(value = "studentCourses", key = "#studentId"),
-        @CacheEvict(value = "courseStudents", allEntries = true)
-    })
     public StudentDTO assignCourses(Long studentId, List<String> courseCodes) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new EntityNotFoundException("Student not found with ID: " + studentId));
         
-        List<Course> courses = courseRepository.findAllById(courseCodes);
-        if (courses.size() != courseCodes.size()) {
-            List<String> foundCodes = courses.stream().map(Course::getCode).collect(Collectors.toList());
-            List<String> notFoundCodes = courseCodes.stream()
+        Set<String> requestedCodes = new LinkedHashSet<>(courseCodes);
+        Set<String> foundCodes = courseRepository.findExistingCodes(requestedCodes);
+        if (foundCodes.size() != requestedCodes.size()) {
+            List<String> notFoundCodes = requestedCodes.stream()
                     .filter(code -> !foundCodes.contains(code))
                     .collect(Collectors.toList());
             throw new EntityNotFoundException("Courses not found with codes: " + notFoundCodes);
         }
         
-        for (Course course : courses) {
-            student.addCourse(course);
-        }
+        // Write only the missing join rows; neither the student's nor the courses' collections are loaded
+        Set<String> enrolledCodes = enrollmentRepository.findIdsByStudentIds(List.of(studentId)).stream()
+                .map(EnrollmentId::getCourseCode)
+                .collect(Collectors.toSet());
+        List<Enrollment> newEnrollments = requestedCodes.stream()
+                .filter(code -> !enrolledCodes.contains(code))
+                .map(code -> new Enrollment(studentId, code))
+                .collect(Collectors.toList());
+        enrollmentRepository.saveAll(newEnrollments);
         
-        Student updatedStudent = studentRepository.save(student);
-        return convertToDTO(updatedStudent);
+        List<String> newCodes = newEnrollments.stream()
+                .map(Enrollment::getCourseCode)
+                .collect(Collectors.toList());
+        rosterChangeLog.recordAll(newCodes.stream()
+                .map(code -> new RosterChange(RosterChange.Type.ENROLLED, studentId, code))
+                .collect(Collectors.toList()));
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.enrollmentsChanged(List.of(studentId), newCodes);
+            dataVersions.bump(Aggregate.ENROLLMENTS);
+        });
+        return convertToDTO(student);
+    }
+
+    @Override
+    @Transactional
+    public void unassignCourse(Long studentId, String courseCode) {
+        if (enrollmentRepository.deleteByStudentIdAndCourseCode(studentId, courseCode) == 0) {
+            throw new EntityNotFoundException(
+                    "Student with ID " + studentId + " is not enrolled in course " + courseCode);
+        }
+        rosterChangeLog.record(RosterChange.Type.UNENROLLED, studentId, courseCode);
+        TransactionCallbacks.afterCommit(() -> {
+            cacheInvalidator.enrollmentsChanged(List.of(studentId), List.of(courseCode));
+            dataVersions.bump(Aggregate.ENROLLMENTS);
+        });
     }
 
     @Override
-    @Cacheable(value = "studentCourses", key = "#studentId")
+    @Cacheable(value = "studentCourses", key = "#studentId", sync = true)
     public StudentDTO getStudentWithCourses(Long studentId) {
-        Student student = studentRepository.findById(studentId)
+        Student student = studentRepository.findWithCoursesById(studentId)
                 .orElseThrow(() -> new EntityNotFoundException("Student not found with ID: " + studentId));
         
         StudentDTO studentDTO = convertToDTO(student);
@@ -166,17 +346,48 @@ public class StudentServiceImpl implements StudentService {
     }
 
     @Override
-    @Cacheable(value = "courseStudents", key = "#courseCode")
+    @Cacheable(value = "courseStudents", key = "#courseCode", sync = true)
     public List<StudentDTO> getStudentsByCourseCode(String courseCode) {
         if (!courseRepository.existsById(courseCode)) {
             throw new EntityNotFoundException("Course not found with code: " + courseCode);
         }
         
-        return studentRepository.findByCourseCode(courseCode).stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return studentRepository.findDTOsByCourseCode(courseCode);
     }
     
+    /**
+     * Helper method to encode the keyset of a student as an opaque cursor.
+     *
+     * @param student the last student of a page
+     * @return the cursor pointing after the student
+     */
+    private String encodeCursor(Student student) {
+        String keyset = student.getId() + ":" + student.getLastName();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(keyset.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Helper method to decode an opaque cursor into a keyset scroll position.
+     *
+     * @param cursor the cursor, or null for the first page
+     * @return the scroll position
+     */
+    private ScrollPosition decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String keyset = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = keyset.indexOf(':');
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("lastName", keyset.substring(separator + 1));
+            keys.put("id", Long.valueOf(keyset.substring(0, separator)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
     /**
      * Helper method to convert a Student entity to a StudentDTO.
      *
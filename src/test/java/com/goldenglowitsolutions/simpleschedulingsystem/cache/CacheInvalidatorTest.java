@@ -0,0 +1,229 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.config.CacheConfig;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every step in its own committed transaction, because a read-write cache region only serves
+ * entries to transactions that started after the entry was cached.
+ */
+@DataJpaTest
+@Import({CacheInvalidator.class, CacheConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheInvalidatorTest {
+
+    @Autowired
+    private CacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        studentId = inTransaction(entityManager -> {
+            Course course = new Course("CS101", "Introduction to Programming", "Description 1");
+            entityManager.persist(course);
+            entityManager.persist(new Course("MATH101", "Calculus I", "Description 2"));
+            Student student = new Student("John", "Doe", "john.doe@example.com");
+            student.addCourse(course);
+            entityManager.persist(student);
+            return student.getId();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        inTransaction(entityManager -> {
+            entityManager.createQuery("DELETE FROM Enrollment").executeUpdate();
+            entityManager.createQuery("DELETE FROM Student").executeUpdate();
+            entityManager.createQuery("DELETE FROM Course").executeUpdate();
+            return null;
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void secondLevelCache_ServesRepeatedReadsWithoutStatements() {
+        // Arrange: the first request loads from the database and populates the cache
+        long coldStatements = countStatements(() -> assertEquals(1, studentCourseCount()));
+
+        // Act
+        long warmStatements = countStatements(() -> assertEquals(1, studentCourseCount()));
+
+        // Assert
+        assertEquals(2, coldStatements);
+        assertEquals(0, warmStatements);
+        assertTrue(statistics.getDomainDataRegionStatistics(Student.class.getName()).getHitCount() > 0);
+    }
+
+    @Test
+    void enrollmentsChanged_EvictsStaleCollections() {
+        // Arrange
+        assertEquals(1, studentCourseCount());
+        inTransaction(entityManager -> {
+            entityManager.persist(new Enrollment(studentId, "MATH101"));
+            return null;
+        });
+        assertEquals(1, studentCourseCount());
+
+        // Act
+        cacheInvalidator.enrollmentsChanged(List.of(studentId), List.of("MATH101"));
+
+        // Assert
+        assertEquals(2, studentCourseCount());
+    }
+
+    @Test
+    void studentDeleted_EvictsCourseRosters() {
+        // Arrange
+        assertEquals(1, courseStudentCount("CS101"));
+        inTransaction(entityManager -> {
+            entityManager.remove(entityManager.find(Student.class, studentId));
+            return null;
+        });
+        // The stale cached roster still references the deleted student
+        assertThrows(EntityNotFoundException.class, () -> courseStudentCount("CS101"));
+
+        // Act
+        cacheInvalidator.studentDeleted(studentId, List.of("CS101"));
+
+        // Assert
+        assertEquals(0, courseStudentCount("CS101"));
+    }
+
+    @Test
+    void courseDeleted_EvictsStudentCourseCollections() {
+        // Arrange
+        assertEquals(1, studentCourseCount());
+        inTransaction(entityManager -> entityManager.createQuery("DELETE FROM Course c WHERE c.code = 'CS101'")
+                .executeUpdate());
+
+        // Act
+        cacheInvalidator.courseDeleted("CS101", List.of(studentId));
+
+        // Assert
+        assertEquals(0, studentCourseCount());
+    }
+
+    @Test
+    void studentUpdated_EvictsOnlyTheStudentsCourseEntries() {
+        // Arrange
+        cacheManager.getCache("courseRosters").put("CS101", "roster");
+        cacheManager.getCache("courseRosters").put("MATH101", "roster");
+        cacheManager.getCache("courseStudents").put("CS101", "students");
+        cacheManager.getCache("studentCourses").put(studentId, "courses");
+
+        // Act
+        cacheInvalidator.studentUpdated(studentId, List.of("CS101"));
+
+        // Assert
+        assertNull(cacheManager.getCache("courseRosters").get("CS101"));
+        assertNull(cacheManager.getCache("courseStudents").get("CS101"));
+        assertNotNull(cacheManager.getCache("courseRosters").get("MATH101"));
+        assertNotNull(cacheManager.getCache("studentCourses").get(studentId));
+    }
+
+    @Test
+    void courseUpdated_EvictsRosterAndEnrolledStudentsOnly() {
+        // Arrange
+        cacheManager.getCache("courseRosters").put("CS101", "roster");
+        cacheManager.getCache("studentCourses").put(studentId, "courses");
+        cacheManager.getCache("studentCourses").put(-1L, "courses");
+
+        // Act
+        cacheInvalidator.courseUpdated("CS101", List.of(studentId));
+
+        // Assert
+        assertNull(cacheManager.getCache("courseRosters").get("CS101"));
+        assertNull(cacheManager.getCache("studentCourses").get(studentId));
+        assertNotNull(cacheManager.getCache("studentCourses").get(-1L));
+    }
+
+    @Test
+    void evictStudentRosterAndCourseCatalog_EvictOnlyTheLists() {
+        // Arrange
+        cacheManager.getCache("studentRoster").put("all", "stale");
+        cacheManager.getCache("courseCatalog").put("all", "stale");
+        // A course may be coded "all" without colliding with the catalog
+        cacheManager.getCache("courses").put("all", "course");
+
+        // Act
+        cacheInvalidator.evictStudentRoster();
+        cacheInvalidator.evictCourseCatalog();
+
+        // Assert
+        assertNull(cachedValue("studentRoster", "all"));
+        assertNull(cachedValue("courseCatalog", "all"));
+        assertEquals("course", cachedValue("courses", "all"));
+    }
+
+    private Object cachedValue(String cacheName, Object key) {
+        org.springframework.cache.Cache.ValueWrapper wrapper = cacheManager.getCache(cacheName).get(key);
+        return wrapper == null ? null : wrapper.get();
+    }
+
+    private int studentCourseCount() {
+        return inTransaction(entityManager -> {
+            Student student = entityManager.find(Student.class, studentId);
+            student.getCourses().forEach(Course::getTitle);
+            return student.getCourses().size();
+        });
+    }
+
+    private int courseStudentCount(String code) {
+        return inTransaction(entityManager -> entityManager.find(Course.class, code).getStudents().size());
+    }
+
+    private long countStatements(Runnable request) {
+        statistics.clear();
+        request.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Runs the work in a new persistence context and transaction, as a single request would.
+     */
+    private <T> T inTransaction(Function<EntityManager, T> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            T result = work.apply(entityManager);
+            entityManager.getTransaction().commit();
+            return result;
+        } finally {
+            entityManager.close();
+        }
+    }
+}
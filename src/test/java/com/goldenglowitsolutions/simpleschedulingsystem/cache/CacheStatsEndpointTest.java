@@ -0,0 +1,93 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.config.CacheConfig;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheStatsEndpointTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CacheManager cacheManager;
+
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cacheManager = new CacheConfig(new MockEnvironment()).cacheManager(studentRepository, courseRepository,
+                new InMemoryCacheInvalidationBus(), false);
+        endpoint = new CacheStatsEndpoint(cacheManager);
+    }
+
+    @Test
+    void caches_ListsStatisticsOfEveryCache() {
+        // Arrange
+        cacheManager.getCache("courseRosters").put("CS101", "roster");
+        cacheManager.getCache("courseRosters").get("CS101");
+        cacheManager.getCache("courseRosters").get("MATH101");
+
+        // Act
+        Map<String, Object> caches = endpoint.caches();
+
+        // Assert
+        assertEquals(cacheManager.getCacheNames().size(), caches.size());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> rosters = (Map<String, Object>) caches.get("courseRosters");
+        assertEquals(1L, rosters.get("size"));
+        assertEquals(1L, rosters.get("hits"));
+        assertEquals(1L, rosters.get("misses"));
+        assertEquals(0.5, rosters.get("hitRate"));
+    }
+
+    @Test
+    void cache_ReturnsNullForUnknownCache() {
+        // Act & Assert
+        assertNotNull(endpoint.cache("courses"));
+        assertNull(endpoint.cache("unknown"));
+    }
+
+    @Test
+    void clear_EvictsSingleEntryWhenKeyGiven() {
+        // Arrange
+        cacheManager.getCache("studentCourses").put(1L, "first");
+        cacheManager.getCache("studentCourses").put(2L, "second");
+
+        // Act
+        Map<String, Object> result = endpoint.clear("studentCourses", "1");
+
+        // Assert
+        assertEquals(1L, result.get("evicted"));
+        assertNull(cacheManager.getCache("studentCourses").get(1L));
+        assertNotNull(cacheManager.getCache("studentCourses").get(2L));
+    }
+
+    @Test
+    void clear_ClearsWholeCacheWithoutKey() {
+        // Arrange
+        cacheManager.getCache("courseStudents").put("CS101", "first");
+        cacheManager.getCache("courseStudents").put("MATH101", "second");
+
+        // Act
+        Map<String, Object> result = endpoint.clear("courseStudents", null);
+
+        // Assert
+        assertEquals(2L, result.get("evicted"));
+        assertNull(cacheManager.getCache("courseStudents").get("CS101"));
+        assertNull(endpoint.clear("unknown", null));
+    }
+}
@@ -0,0 +1,144 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenglowitsolutions.simpleschedulingsystem.controller.StudentController;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CachedResponseBodyAdviceTest {
+
+    @Mock
+    private StudentService studentService;
+
+    private ObjectMapper objectMapper;
+
+    private ResponseBodyCache responseBodyCache;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        objectMapper = new ObjectMapper();
+        responseBodyCache = spy(new ResponseBodyCache(objectMapper));
+        mockMvc = MockMvcBuilders.standaloneSetup(new StudentController(studentService, mock(NegativeCache.class)))
+                .setControllerAdvice(new CachedResponseBodyAdvice(responseBodyCache))
+                .build();
+    }
+
+    @Test
+    void getAllStudents_WritesCachedJsonForSameCachedInstance() throws Exception {
+        // Arrange
+        List<StudentDTO> students = List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com"));
+        when(studentService.getAllStudents()).thenReturn(students);
+
+        // Act
+        MockHttpServletResponse first = perform("/students", null);
+        MockHttpServletResponse second = perform("/students", null);
+
+        // Assert
+        assertEquals(objectMapper.writeValueAsString(students), first.getContentAsString());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertEquals(first.getContentAsByteArray().length, second.getContentLength());
+        assertNull(second.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(1, responseBodyCache.size());
+    }
+
+    @Test
+    void getAllStudents_EncodesAgainWhenServiceCacheReturnsNewInstance() throws Exception {
+        // Arrange
+        when(studentService.getAllStudents())
+                .thenReturn(List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com")))
+                .thenReturn(List.of(new StudentDTO(1L, "John", "Smith", "john.doe@example.com")));
+
+        // Act
+        perform("/students", null);
+        MockHttpServletResponse afterUpdate = perform("/students", null);
+
+        // Assert
+        assertTrue(afterUpdate.getContentAsString().contains("Smith"));
+    }
+
+    @Test
+    void getAllStudents_SendsGzipWhenAccepted() throws Exception {
+        // Arrange
+        List<StudentDTO> students = IntStream.range(0, 100)
+                .mapToObj(i -> new StudentDTO((long) i, "First" + i, "Last" + i, "student" + i + "@example.com"))
+                .collect(Collectors.toList());
+        when(studentService.getAllStudents()).thenReturn(students);
+
+        // Act
+        MockHttpServletResponse response = perform("/students", "gzip, deflate");
+
+        // Assert
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] json;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            json = gzip.readAllBytes();
+        }
+        assertArrayEquals(objectMapper.writeValueAsBytes(students), json);
+        assertTrue(response.getContentAsByteArray().length < json.length);
+    }
+
+    @Test
+    void getAllStudents_ParsesAcceptEncodingTokensAndWeights() throws Exception {
+        // Arrange
+        when(studentService.getAllStudents()).thenReturn(IntStream.range(0, 100)
+                .mapToObj(i -> new StudentDTO((long) i, "First" + i, "Last" + i, "student" + i + "@example.com"))
+                .collect(Collectors.toList()));
+
+        // Act & Assert
+        assertEquals("gzip", perform("/students", "GZIP").getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", perform("/students", "br;q=1.0, *;q=0.5").getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(perform("/students", "gzip;q=0, identity").getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(perform("/students", "*, gzip; Q=0.0").getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(perform("/students", "x-gzipped, notgzip").getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void createStudent_IsNotServedFromResponseCache() throws Exception {
+        // Arrange
+        when(studentService.createStudent(any()))
+                .thenReturn(new StudentDTO(1L, "John", "Doe", "john.doe@example.com"));
+
+        // Act
+        mockMvc.perform(post("/students")
+                        .contentType("application/json")
+                        .content("{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"john.doe@example.com\"}"))
+                .andExpect(status().isCreated());
+
+        // Assert
+        verify(responseBodyCache, never()).encode(any());
+    }
+
+    private MockHttpServletResponse perform(String path, String acceptEncoding) throws Exception {
+        var request = get(path);
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataVersionsTest {
+
+    @Test
+    void bump_ChangesOnlyETagsOfChangedData() {
+        // Arrange
+        DataVersions versions = new DataVersions(new InMemoryCacheInvalidationBus());
+        String students = versions.etag(Aggregate.STUDENTS);
+        String roster = versions.etag(Aggregate.COURSES, Aggregate.STUDENTS, Aggregate.ENROLLMENTS);
+        String courses = versions.etag(Aggregate.COURSES);
+
+        // Act
+        versions.bump(Aggregate.ENROLLMENTS);
+
+        // Assert
+        assertEquals(students, versions.etag(Aggregate.STUDENTS));
+        assertEquals(courses, versions.etag(Aggregate.COURSES));
+        assertNotEquals(roster, versions.etag(Aggregate.COURSES, Aggregate.STUDENTS, Aggregate.ENROLLMENTS));
+        assertTrue(students.startsWith("\"") && students.endsWith("\""));
+    }
+
+    @Test
+    void bump_PropagatesToOtherNodesOnce() {
+        // Arrange
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        DataVersions nodeA = new DataVersions(bus);
+        DataVersions nodeB = new DataVersions(bus);
+        long beforeA = nodeA.current(Aggregate.COURSES);
+        long beforeB = nodeB.current(Aggregate.COURSES);
+
+        // Act
+        nodeA.bump(Aggregate.COURSES);
+
+        // Assert
+        assertEquals(beforeA + 1, nodeA.current(Aggregate.COURSES));
+        assertEquals(beforeB + 1, nodeB.current(Aggregate.COURSES));
+    }
+
+    @Test
+    void etag_DiffersBetweenNodesWithTheSameCounters() {
+        // Arrange
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        DataVersions nodeA = new DataVersions(bus);
+        DataVersions nodeB = new DataVersions(bus);
+
+        // Act
+        nodeA.bump(Aggregate.STUDENTS);
+
+        // Assert
+        assertEquals(nodeA.current(Aggregate.STUDENTS), nodeB.current(Aggregate.STUDENTS));
+        assertNotEquals(nodeA.etag(Aggregate.STUDENTS), nodeB.etag(Aggregate.STUDENTS));
+    }
+}
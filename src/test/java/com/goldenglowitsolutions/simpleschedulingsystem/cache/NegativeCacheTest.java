@@ -0,0 +1,55 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeCacheTest {
+
+    private AtomicInteger published;
+
+    private NegativeCache nodeA;
+
+    private NegativeCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        published = new AtomicInteger();
+        bus.subscribe(invalidation -> published.incrementAndGet());
+        nodeA = new NegativeCache(new TwoLevelCacheManager(
+                new CaffeineCacheManager(NegativeCache.CACHE_NAME), null, bus));
+        nodeB = new NegativeCache(new TwoLevelCacheManager(
+                new CaffeineCacheManager(NegativeCache.CACHE_NAME), null, bus));
+    }
+
+    @Test
+    void markMissing_StaysOnThisNode() {
+        // Act
+        nodeA.markMissing(Student.class, 99L);
+
+        // Assert
+        assertTrue(nodeA.isMissing(Student.class, 99L));
+        assertFalse(nodeB.isMissing(Student.class, 99L));
+        assertEquals(0, published.get());
+    }
+
+    @Test
+    void forget_ClearsTheKeyOnEveryNode() {
+        // Arrange
+        nodeA.markMissing(Student.class, 99L);
+        nodeB.markMissing(Student.class, 99L);
+
+        // Act
+        nodeB.forget(Student.class, 99L);
+
+        // Assert
+        assertFalse(nodeA.isMissing(Student.class, 99L));
+        assertFalse(nodeB.isMissing(Student.class, 99L));
+    }
+}
@@ -0,0 +1,93 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheSyncTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private jakarta.persistence.Cache jpaCache;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    private TwoLevelCacheManager nodeA;
+
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.getCache()).thenReturn(jpaCache);
+        lenient().when(jpaCache.unwrap(Cache.class)).thenReturn(secondLevelCache);
+        InMemoryCacheInvalidationBus bus = new InMemoryCacheInvalidationBus();
+        nodeA = new TwoLevelCacheManager(new CaffeineCacheManager("students", "studentRoster", "courseRosters"), null, bus);
+        nodeB = new TwoLevelCacheManager(new CaffeineCacheManager("students", "studentRoster", "courseRosters"), null, bus);
+        new SecondLevelCacheSync(entityManagerFactory, nodeB);
+    }
+
+    @Test
+    void studentWrittenOnOtherNode_EvictsStudentFromSecondLevelCacheBeforeNearCache() {
+        // Arrange
+        nodeB.getCache("students").put(1L, "John Doe");
+        doAnswer(invocation -> {
+            assertNotNull(nodeB.getCache("students").get(1L), "near entry evicted before the entity");
+            return null;
+        }).when(secondLevelCache).evictEntityData(Student.class, 1L);
+
+        // Act
+        nodeA.getCache("students").put(1L, "John Smith");
+
+        // Assert
+        InOrder inOrder = inOrder(secondLevelCache);
+        inOrder.verify(secondLevelCache).evictEntityData(Student.class, 1L);
+        inOrder.verify(secondLevelCache).evictCollectionData(CacheInvalidator.STUDENT_COURSES_ROLE, 1L);
+        assertNull(nodeB.getCache("students").get(1L));
+    }
+
+    @Test
+    void rosterEvictedOnOtherNode_EvictsCourseAndItsStudents() {
+        // Act
+        nodeA.getCache("courseRosters").evict("CS101");
+
+        // Assert
+        verify(secondLevelCache).evictEntityData(Course.class, "CS101");
+        verify(secondLevelCache).evictCollectionData(CacheInvalidator.COURSE_STUDENTS_ROLE, "CS101");
+    }
+
+    @Test
+    void cacheClearedOnOtherNode_EvictsWholeRegions() {
+        // Act
+        nodeA.getCache("students").clear();
+
+        // Assert
+        verify(secondLevelCache).evictEntityData(Student.class);
+        verify(secondLevelCache).evictCollectionData(CacheInvalidator.STUDENT_COURSES_ROLE);
+    }
+
+    @Test
+    void writeOnSameNodeOrToRoster_LeavesSecondLevelCacheToHibernate() {
+        // Act
+        nodeB.getCache("students").put(1L, "John Smith");
+        nodeA.getCache("studentRoster").evict("all");
+
+        // Assert
+        verify(secondLevelCache, never()).evictEntityData(any(Class.class), any());
+    }
+}
@@ -0,0 +1,123 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheManagerTest {
+
+    private InMemoryCacheInvalidationBus bus;
+
+    private CacheManager shared;
+
+    private TwoLevelCacheManager nodeA;
+
+    private TwoLevelCacheManager nodeB;
+
+    private TwoLevelCacheManager nodeC;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InMemoryCacheInvalidationBus();
+        shared = new ConcurrentMapCacheManager("students");
+        nodeA = new TwoLevelCacheManager(new CaffeineCacheManager("students"), shared, bus);
+        nodeB = new TwoLevelCacheManager(new CaffeineCacheManager("students"), shared, bus);
+        nodeC = new TwoLevelCacheManager(new CaffeineCacheManager("students"), shared, bus);
+    }
+
+    @Test
+    void put_DropsStaleNearEntriesOnOtherNodes() {
+        // Arrange
+        nodeA.getCache("students").put(1L, "John Doe");
+        assertEquals("John Doe", nodeB.getCache("students").get(1L).get());
+        assertEquals("John Doe", nodeC.getCache("students").get(1L).get());
+
+        // Act
+        nodeA.getCache("students").put(1L, "John Smith");
+
+        // Assert
+        assertNull(nearOf(nodeB).get(1L));
+        assertNull(nearOf(nodeC).get(1L));
+        assertEquals("John Smith", nearOf(nodeA).get(1L).get());
+        assertEquals("John Smith", nodeB.getCache("students").get(1L).get());
+        assertEquals("John Smith", nodeC.getCache("students").get(1L).get());
+    }
+
+    @Test
+    void evict_RemovesEntryFromEveryNodeAndSharedTier() {
+        // Arrange
+        nodeA.getCache("students").put(1L, "John Doe");
+        nodeB.getCache("students").get(1L);
+
+        // Act
+        nodeC.getCache("students").evict(1L);
+
+        // Assert
+        assertNull(nodeA.getCache("students").get(1L));
+        assertNull(nodeB.getCache("students").get(1L));
+        assertNull(shared.getCache("students").get(1L));
+    }
+
+    @Test
+    void clear_ClearsEveryNode() {
+        // Arrange
+        nodeA.getCache("students").put(1L, "John Doe");
+        nodeB.getCache("students").put(2L, "Jane Smith");
+
+        // Act
+        nodeB.getCache("students").clear();
+
+        // Assert
+        assertNull(nodeA.getCache("students").get(1L));
+        assertNull(nodeC.getCache("students").get(2L));
+    }
+
+    @Test
+    void getWithLoader_UsesSharedTierBeforeLoading() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        Object first = nodeA.getCache("students").get("all", () -> "roster-" + loads.incrementAndGet());
+        Object second = nodeB.getCache("students").get("all", () -> "roster-" + loads.incrementAndGet());
+
+        // Assert
+        assertEquals("roster-1", first);
+        assertEquals("roster-1", second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void nearOnly_EvictionStillPropagatesToOtherNodes() {
+        // Arrange
+        TwoLevelCacheManager first = new TwoLevelCacheManager(new CaffeineCacheManager("students"), null, bus);
+        TwoLevelCacheManager second = new TwoLevelCacheManager(new CaffeineCacheManager("students"), null, bus);
+        first.getCache("students").put(1L, "John Doe");
+        second.getCache("students").put(1L, "John Doe");
+
+        // Act
+        first.getCache("students").evict(1L);
+
+        // Assert
+        assertNull(second.getCache("students").get(1L));
+        assertEquals("John Smith", second.getCache("students").get(1L, () -> "John Smith"));
+    }
+
+    @Test
+    void getCache_ReturnsNullForUnknownCache() {
+        // Act & Assert
+        assertNull(nodeA.getCache("unknown"));
+        assertNotEquals(nodeA.getNodeId(), nodeB.getNodeId());
+    }
+
+    private Cache nearOf(TwoLevelCacheManager node) {
+        return ((TwoLevelCache) node.getCache("students")).getNearCache();
+    }
+}
@@ -0,0 +1,176 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.changelog;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.RosterChangeDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.BadRequestException;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.ChangeTokenExpiredException;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.RosterChangeRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.RosterChangeWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every write in its own committed transaction, because entries are only written on commit.
+ */
+@DataJpaTest
+@Import(RosterChangeLog.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RosterChangeLogTest {
+
+    @Autowired
+    private RosterChangeLog rosterChangeLog;
+
+    @Autowired
+    private RosterChangeRepository rosterChangeRepository;
+
+    @Autowired
+    private RosterChangeWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        rosterChangeRepository.deleteAll();
+    }
+
+    @Test
+    void changesSince_WithoutToken_StartsAtCurrentState() {
+        // Arrange
+        inTransaction(() -> rosterChangeLog.record(RosterChange.Type.STUDENT_CREATED, 1L, null));
+
+        // Act
+        CursorPageDTO<RosterChangeDTO> page = rosterChangeLog.changesSince(null, 10);
+
+        // Assert
+        assertTrue(page.getContent().isEmpty());
+        assertFalse(page.isHasNext());
+        assertTrue(rosterChangeLog.changesSince(page.getNextCursor(), 10).getContent().isEmpty());
+    }
+
+    @Test
+    void changesSince_ReturnsChangesInOrderAcrossPages() {
+        // Arrange
+        String token = rosterChangeLog.changesSince(null, 10).getNextCursor();
+        inTransaction(() -> {
+            rosterChangeLog.record(RosterChange.Type.STUDENT_CREATED, 1L, null);
+            rosterChangeLog.record(RosterChange.Type.COURSE_UPDATED, null, "CS101");
+        });
+        inTransaction(() -> rosterChangeLog.recordAll(List.of(
+                new RosterChange(RosterChange.Type.ENROLLED, 1L, "CS101"),
+                new RosterChange(RosterChange.Type.STUDENT_DELETED, 2L, null))));
+
+        // Act
+        CursorPageDTO<RosterChangeDTO> first = rosterChangeLog.changesSince(token, 3);
+        CursorPageDTO<RosterChangeDTO> second = rosterChangeLog.changesSince(first.getNextCursor(), 3);
+        CursorPageDTO<RosterChangeDTO> caughtUp = rosterChangeLog.changesSince(second.getNextCursor(), 3);
+
+        // Assert
+        assertEquals(List.of(RosterChange.Type.STUDENT_CREATED, RosterChange.Type.COURSE_UPDATED,
+                RosterChange.Type.ENROLLED), types(first));
+        assertTrue(first.isHasNext());
+        assertEquals(List.of(RosterChange.Type.STUDENT_DELETED), types(second));
+        assertFalse(second.isHasNext());
+        assertEquals("CS101", first.getContent().get(2).getCourseCode());
+        assertTrue(caughtUp.getContent().isEmpty());
+    }
+
+    @Test
+    void changesSince_ListsChangesOfALongTransactionCommittedAfterALaterOne() throws Exception {
+        // Arrange: the long transaction records first, but only commits after the short one was read
+        String token = rosterChangeLog.changesSince(null, 10).getNextCursor();
+        CountDownLatch recorded = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> longTransaction = CompletableFuture.runAsync(() -> inTransaction(() -> {
+            rosterChangeLog.record(RosterChange.Type.STUDENT_CREATED, 1L, null);
+            recorded.countDown();
+            await(commit);
+        }));
+        assertTrue(recorded.await(10, TimeUnit.SECONDS));
+        inTransaction(() -> rosterChangeLog.record(RosterChange.Type.COURSE_CREATED, null, "CS101"));
+        CursorPageDTO<RosterChangeDTO> first = rosterChangeLog.changesSince(token, 10);
+
+        // Act
+        commit.countDown();
+        longTransaction.get(10, TimeUnit.SECONDS);
+        CursorPageDTO<RosterChangeDTO> second = rosterChangeLog.changesSince(first.getNextCursor(), 10);
+
+        // Assert
+        assertEquals(List.of(RosterChange.Type.COURSE_CREATED), types(first));
+        assertEquals(List.of(RosterChange.Type.STUDENT_CREATED), types(second));
+    }
+
+    @Test
+    void changesSince_WithTokenOlderThanRetention_ThrowsGone() throws InterruptedException {
+        // Arrange
+        RosterChangeLog shortLived = new RosterChangeLog(rosterChangeRepository, watermarkRepository,
+                transactionManager, Duration.ofMillis(10));
+        String token = shortLived.changesSince(null, 10).getNextCursor();
+        Thread.sleep(50);
+
+        // Act & Assert
+        assertThrows(ChangeTokenExpiredException.class, () -> shortLived.changesSince(token, 10));
+    }
+
+    @Test
+    void changesSince_WithMalformedTokenOrLimit_ThrowsIllegalArgument() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> rosterChangeLog.changesSince("not-a-token", 10));
+        assertThrows(BadRequestException.class, () -> rosterChangeLog.changesSince(null, 0));
+    }
+
+    @Test
+    void compact_DeletesChangesOlderThanRetention() {
+        // Arrange
+        RosterChange old = new RosterChange(RosterChange.Type.STUDENT_CREATED, 1L, null);
+        old.setChangedAt(Instant.now().minus(Duration.ofDays(30)));
+        rosterChangeRepository.save(old);
+        inTransaction(() -> rosterChangeLog.record(RosterChange.Type.STUDENT_UPDATED, 1L, null));
+
+        // Act
+        rosterChangeLog.compact();
+
+        // Assert
+        assertEquals(List.of(RosterChange.Type.STUDENT_UPDATED), rosterChangeRepository.findAll().stream()
+                .map(RosterChange::getType)
+                .collect(Collectors.toList()));
+    }
+
+    private void inTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<RosterChange.Type> types(CursorPageDTO<RosterChangeDTO> page) {
+        return page.getContent().stream().map(RosterChangeDTO::getType).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,177 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.InMemoryCacheInvalidationBus;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.PayloadWeigher;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.TwoLevelCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheConfigTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cacheManager = new CacheConfig(new MockEnvironment()).cacheManager(studentRepository, courseRepository,
+                new InMemoryCacheInvalidationBus(), false);
+    }
+
+    @Test
+    void cacheManager_GivesEachCacheItsOwnWeightBudgetAndTimeToLive() {
+        // Act & Assert
+        assertEquals(32L * 1024 * 1024, policyOf("students").eviction().orElseThrow().getMaximum());
+        assertEquals(8L * 1024 * 1024, policyOf("courses").eviction().orElseThrow().getMaximum());
+        assertEquals(8L * 1024 * 1024, policyOf("courseCatalog").eviction().orElseThrow().getMaximum());
+        assertTrue(policyOf("studentCourses").eviction().orElseThrow().isWeighted());
+        assertEquals(Duration.ofMinutes(30), policyOf("students").expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(Duration.ofMinutes(10), policyOf("courseRosters").expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertNull(cacheManager.getCache("unknown"));
+    }
+
+    @Test
+    void cacheManager_ReadsBudgetsFromProperties() {
+        // Arrange
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.students.max-bytes", "4MB")
+                .withProperty("app.cache.studentRoster.max-bytes", "1048576");
+
+        // Act
+        cacheManager = new CacheConfig(environment).cacheManager(studentRepository, courseRepository,
+                new InMemoryCacheInvalidationBus(), false);
+
+        // Assert
+        assertEquals(4L * 1024 * 1024, policyOf("students").eviction().orElseThrow().getMaximum());
+        assertEquals(1024L * 1024, policyOf("studentRoster").eviction().orElseThrow().getMaximum());
+        assertEquals(8L * 1024 * 1024, policyOf("courses").eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    void cacheManager_KeepsMissingEntitiesOutOfTheSharedTier() {
+        // Arrange
+        CacheManager twoTier = new CacheConfig(new MockEnvironment()).cacheManager(studentRepository, courseRepository,
+                new InMemoryCacheInvalidationBus(), true);
+        twoTier.getCache("missingEntities").put("Student:99", Boolean.TRUE);
+        twoTier.getCache("studentCourses").put(99L, List.of());
+
+        // Act
+        ((TwoLevelCache) twoTier.getCache("missingEntities")).getNearCache().clear();
+        ((TwoLevelCache) twoTier.getCache("studentCourses")).getNearCache().clear();
+
+        // Assert
+        assertNull(twoTier.getCache("missingEntities").get("Student:99"));
+        assertNotNull(twoTier.getCache("studentCourses").get(99L));
+    }
+
+    @Test
+    void cacheManager_RefreshesOnlyStudentAndCourseCaches() {
+        // Act & Assert
+        assertEquals(Duration.ofMinutes(5), policyOf("students").refreshAfterWrite().orElseThrow().getRefreshesAfter());
+        assertTrue(policyOf("courses").refreshAfterWrite().isPresent());
+        assertFalse(policyOf("courseStudents").refreshAfterWrite().isPresent());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void studentRosterCache_RefreshesRosterInBackground() throws InterruptedException {
+        // Arrange
+        when(studentRepository.findAllDTOs())
+                .thenReturn(List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com"),
+                        new StudentDTO(2L, "Jane", "Smith", "jane.smith@example.com")));
+        LoadingCache<Object, Object> students =
+                (LoadingCache<Object, Object>) cacheManager.getCache("studentRoster").getNativeCache();
+        cacheManager.getCache("studentRoster").put("all",
+                List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com")));
+
+        // Act
+        List<StudentDTO> cached = (List<StudentDTO>) cacheManager.getCache("studentRoster").get("all").get();
+        students.refresh("all").join();
+        // The reloaded value replaces the old one on the refresh thread, just after the future completes
+        long deadline = System.currentTimeMillis() + 5000;
+        while (((List<StudentDTO>) students.getIfPresent("all")).size() == 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertEquals(1, cached.size());
+        assertEquals(2, ((List<StudentDTO>) students.getIfPresent("all")).size());
+        verify(studentRepository, times(1)).findAllDTOs();
+    }
+
+    @Test
+    void cacheManager_LeavesMissesToTheCachedMethod() {
+        // Act & Assert
+        assertNull(cacheManager.getCache("students").get(99L));
+        assertNull(cacheManager.getCache("studentRoster").get("all"));
+        assertNull(cacheManager.getCache("courses").get("CS101"));
+        assertNull(cacheManager.getCache("courseCatalog").get("all"));
+        verifyNoInteractions(studentRepository, courseRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coursesCache_RefreshesACourseCodedAllAsASingleCourse() {
+        // Arrange
+        when(courseRepository.findById("all"))
+                .thenReturn(Optional.of(new Course("all", "All About Everything", "Description")));
+        cacheManager.getCache("courses").put("all", "stale");
+
+        // Act
+        ((LoadingCache<Object, Object>) cacheManager.getCache("courses").getNativeCache()).refresh("all").join();
+
+        // Assert
+        verify(courseRepository, never()).findAllDTOs();
+        verify(courseRepository).findById("all");
+    }
+
+    @Test
+    void payloadWeigher_WeighsRosterByItsSize() {
+        // Arrange
+        PayloadWeigher weigher = new PayloadWeigher();
+        StudentDTO student = new StudentDTO(1L, "John", "Doe", "john.doe@example.com");
+        List<StudentDTO> roster = IntStream.range(0, 1000)
+                .mapToObj(i -> new StudentDTO((long) i, "First" + i, "Last" + i, "student" + i + "@example.com"))
+                .collect(Collectors.toList());
+
+        // Act
+        int studentWeight = weigher.weigh(1L, student);
+        int rosterWeight = weigher.weigh("all", roster);
+
+        // Assert
+        assertTrue(studentWeight > 0);
+        assertTrue(rosterWeight > studentWeight * 500);
+        assertTrue(weigher.weigh("all", Arrays.asList(student, student)) > studentWeight * 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Policy<Object, Object> policyOf(String cacheName) {
+        return ((Cache<Object, Object>) cacheManager.getCache(cacheName).getNativeCache()).policy();
+    }
+}
@@ -0,0 +1,39 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.config;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.InMemoryCacheInvalidationBus;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MetricsConfigTest {
+
+    @Test
+    void cacheMetrics_RegistersMetricsPerCacheTaggedByName() {
+        // Arrange
+        CacheManager cacheManager = new CacheConfig(new MockEnvironment()).cacheManager(mock(StudentRepository.class),
+                mock(CourseRepository.class), new InMemoryCacheInvalidationBus(), false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cacheManager.getCache("courses").put("CS101", "course");
+        cacheManager.getCache("courses").get("CS101");
+
+        // Act
+        new MetricsConfig().cacheMetrics(cacheManager).bindTo(registry);
+
+        // Assert
+        for (String name : cacheManager.getCacheNames()) {
+            assertNotNull(registry.find("cache.gets").tag("cache", name).tag("result", "hit").functionCounter());
+            assertNotNull(registry.find("cache.gets").tag("cache", name).tag("result", "miss").functionCounter());
+            assertNotNull(registry.find("cache.evictions").tag("cache", name).functionCounter());
+            assertNotNull(registry.find("cache.size").tag("cache", name).gauge());
+        }
+        assertNotNull(registry.find("cache.load.duration").tag("cache", "students").meter());
+        assertEquals(1.0, registry.find("cache.gets").tag("cache", "courses").tag("result", "hit")
+                .functionCounter().count());
+    }
+}
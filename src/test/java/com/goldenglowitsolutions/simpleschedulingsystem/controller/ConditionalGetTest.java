@@ -0,0 +1,111 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.controller;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions.Aggregate;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.InMemoryCacheInvalidationBus;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.interceptor.ConditionalGetInterceptor;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.CourseService;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConditionalGetTest {
+
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private CourseService courseService;
+
+    private DataVersions dataVersions;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        dataVersions = new DataVersions(new InMemoryCacheInvalidationBus());
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new StudentController(studentService, mock(NegativeCache.class)),
+                        new CourseController(courseService, studentService, mock(NegativeCache.class)))
+                .addInterceptors(new ConditionalGetInterceptor(dataVersions))
+                .build();
+        when(studentService.getAllStudents())
+                .thenReturn(List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com")));
+        when(courseService.getCourseWithStudents("CS101"))
+                .thenReturn(new CourseDTO("CS101", "Introduction to Computer Science", "Basics"));
+    }
+
+    @Test
+    void getAllStudents_WithMatchingETag_ReturnsNotModifiedWithoutCallingService() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/students"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(studentService, times(1)).getAllStudents();
+    }
+
+    @Test
+    void getAllStudents_AfterStudentChange_ReturnsNewBody() throws Exception {
+        // Arrange
+        String etag = dataVersions.etag(Aggregate.STUDENTS);
+
+        // Act
+        dataVersions.bump(Aggregate.STUDENTS);
+
+        // Assert
+        String newEtag = mockMvc.perform(get("/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void getCourseStudents_DependsOnEnrollments() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/courses/CS101/students"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/courses/CS101/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // Act
+        dataVersions.bump(Aggregate.ENROLLMENTS);
+
+        // Assert
+        mockMvc.perform(get("/courses/CS101/students").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        verify(courseService, times(2)).getCourseWithStudents("CS101");
+    }
+
+    @Test
+    void getStudentById_HasNoETag() throws Exception {
+        // Arrange
+        when(studentService.getStudentById(1L)).thenReturn(new StudentDTO(1L, "John", "Doe", "john.doe@example.com"));
+
+        // Act & Assert
+        mockMvc.perform(get("/students/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
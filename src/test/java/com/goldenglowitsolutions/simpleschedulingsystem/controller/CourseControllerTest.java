@@ -1,7 +1,10 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.controller;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.CourseService;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +12,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -18,6 +24,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class CourseControllerTest {
@@ -28,6 +35,9 @@ class CourseControllerTest {
     @Mock
     private StudentService studentService;
 
+    @Mock
+    private NegativeCache negativeCache;
+
     @InjectMocks
     private CourseController courseController;
 
@@ -72,6 +82,16 @@ class CourseControllerTest {
         verify(courseService, times(1)).getCourseByCode(courseCode);
     }
 
+    @Test
+    void getCourseByCode_WithKnownMissingCode_SkipsService() {
+        // Arrange
+        when(negativeCache.isMissing(Course.class, "INVALID")).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> courseController.getCourseByCode("INVALID"));
+        verify(courseService, never()).getCourseByCode(any());
+    }
+
     @Test
     void createCourse_WithValidData_ReturnsCreatedCourse() {
         // Arrange
@@ -178,4 +198,21 @@ class CourseControllerTest {
         assertEquals(2, response.getBody().size());
         verify(courseService, times(1)).getCoursesNotTakenByStudent(studentId);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void searchCourses_ReturnsPageOfCourses() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<CourseDTO> page = new PageImpl<>(Arrays.asList(
+                new CourseDTO("MATH101", "Calculus I", "Description 2")), pageable, 1);
+        when(courseService.searchCourses("calculus", pageable)).thenReturn(page);
+
+        // Act
+        ResponseEntity<Page<CourseDTO>> response = courseController.searchCourses("calculus", pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getTotalElements());
+        verify(courseService, times(1)).searchCourses("calculus", pageable);
+    }
+}
@@ -1,6 +1,12 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.controller;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.BatchFailureDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentBatchResultDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +21,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class StudentControllerTest {
@@ -22,6 +29,9 @@ class StudentControllerTest {
     @Mock
     private StudentService studentService;
 
+    @Mock
+    private NegativeCache negativeCache;
+
     @InjectMocks
     private StudentController studentController;
 
@@ -66,6 +76,20 @@ class StudentControllerTest {
         verify(studentService, times(1)).getStudentById(studentId);
     }
 
+    @Test
+    void getStudentById_WithKnownMissingId_SkipsServiceAndStackTrace() {
+        // Arrange
+        when(negativeCache.isMissing(Student.class, 999L)).thenReturn(true);
+
+        // Act
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> studentController.getStudentById(999L));
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+        verify(studentService, never()).getStudentById(any());
+    }
+
     @Test
     void createStudent_WithValidData_ReturnsCreatedStudent() {
         // Arrange
@@ -83,4 +107,58 @@ class StudentControllerTest {
         assertEquals(1L, response.getBody().getId());
         verify(studentService, times(1)).createStudent(studentDTO);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void scrollStudents_ReturnsPageWithNextCursor() {
+        // Arrange
+        StudentDTO student = new StudentDTO(1L, "John", "Doe", "john.doe@example.com");
+        CursorPageDTO<StudentDTO> page = new CursorPageDTO<>(List.of(student), "MTpEb2U", true);
+
+        when(studentService.scrollStudents(null, 1, false)).thenReturn(page);
+
+        // Act
+        ResponseEntity<CursorPageDTO<StudentDTO>> response = studentController.scrollStudents(null, 1, false);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("MTpEb2U", response.getBody().getNextCursor());
+        verify(studentService, times(1)).scrollStudents(null, 1, false);
+    }
+
+    @Test
+    void createStudents_ReturnsCreatedStudentsAndFailures() {
+        // Arrange
+        StudentDTO valid = new StudentDTO(null, "John", "Doe", "john.doe@example.com");
+        StudentDTO duplicate = new StudentDTO(null, "Johnny", "Doe", "john.doe@example.com");
+        List<StudentDTO> studentDTOs = Arrays.asList(valid, duplicate);
+        StudentBatchResultDTO result = new StudentBatchResultDTO(
+                List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com")),
+                List.of(new BatchFailureDTO(1, "Duplicate email in batch: john.doe@example.com")));
+
+        when(studentService.createStudents(studentDTOs)).thenReturn(result);
+
+        // Act
+        ResponseEntity<StudentBatchResultDTO> response = studentController.createStudents(studentDTOs);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getCreated().size());
+        assertEquals(1, response.getBody().getFailures().get(0).getIndex());
+        verify(studentService, times(1)).createStudents(studentDTOs);
+    }
+
+    @Test
+    void unassignCourse_ReturnsNoContent() {
+        // Arrange
+        doNothing().when(studentService).unassignCourse(1L, "CS101");
+
+        // Act
+        ResponseEntity<Void> response = studentController.unassignCourse(1L, "CS101");
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(studentService, times(1)).unassignCourse(1L, "CS101");
+    }
+}
@@ -0,0 +1,130 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CourseCatalogIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseCatalogIndex courseCatalogIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(courseRepository.findAllDTOs()).thenReturn(Arrays.asList(
+                new CourseDTO("MATH101", "Calculus I", "Introduction to differential calculus."),
+                new CourseDTO("CS101", "Introduction to Programming", "Fundamental concepts of programming using Java."),
+                new CourseDTO("PHYS101", "Physics I", "Mechanics and motion.")));
+
+        courseCatalogIndex = new CourseCatalogIndex(courseRepository, true);
+        courseCatalogIndex.rebuild();
+    }
+
+    @Test
+    void complementOf_ReturnsCoursesNotTakenInCodeOrder() {
+        // Act
+        List<CourseDTO> notTaken = courseCatalogIndex.complementOf(Arrays.asList("MATH101", "UNKNOWN"));
+
+        // Assert
+        assertEquals(Arrays.asList("CS101", "PHYS101"), codesOf(notTaken));
+    }
+
+    @Test
+    void complementOf_WithNoEnrollments_ReturnsWholeCatalog() {
+        // Act
+        List<CourseDTO> notTaken = courseCatalogIndex.complementOf(Collections.emptyList());
+
+        // Assert
+        assertEquals(Arrays.asList("CS101", "MATH101", "PHYS101"), codesOf(notTaken));
+    }
+
+    @Test
+    void complementOf_ReturnsCopiesOfIndexedCourses() {
+        // Arrange
+        courseCatalogIndex.complementOf(Collections.emptyList()).get(0).setTitle("Changed");
+
+        // Act
+        List<CourseDTO> notTaken = courseCatalogIndex.complementOf(Collections.emptyList());
+
+        // Assert
+        assertEquals("Introduction to Programming", notTaken.get(0).getTitle());
+    }
+
+    @Test
+    void put_AddsAndReplacesCourses() {
+        // Act
+        courseCatalogIndex.put(new CourseDTO("BIO101", "Biology I", "Cells."));
+        courseCatalogIndex.put(new CourseDTO("CS101", "Programming", "Updated."));
+
+        // Assert
+        List<CourseDTO> notTaken = courseCatalogIndex.complementOf(Collections.singletonList("MATH101"));
+        assertEquals(Arrays.asList("BIO101", "CS101", "PHYS101"), codesOf(notTaken));
+        assertEquals("Programming", notTaken.get(1).getTitle());
+        assertEquals(4, courseCatalogIndex.size());
+    }
+
+    @Test
+    void remove_DropsCourseFromIndex() {
+        // Act
+        courseCatalogIndex.remove("MATH101");
+
+        // Assert
+        assertEquals(Arrays.asList("CS101", "PHYS101"), codesOf(courseCatalogIndex.complementOf(Collections.emptyList())));
+    }
+
+    @Test
+    void rebuild_WhenDisabled_DoesNotLoadCatalog() {
+        // Arrange
+        CourseCatalogIndex disabledIndex = new CourseCatalogIndex(courseRepository, false);
+
+        // Act
+        disabledIndex.rebuild();
+        disabledIndex.put(new CourseDTO("BIO101", "Biology I", "Cells."));
+
+        // Assert
+        assertFalse(disabledIndex.isEnabled());
+        assertEquals(0, disabledIndex.size());
+    }
+
+    @Test
+    void complementOf_AcrossManyStudents_ExcludesExactlyTheTakenCourses() {
+        // Arrange: 100 courses and 20 students with 10 enrollments each; the full-size run is CourseCatalogBenchmark
+        List<CourseDTO> catalog = IntStream.range(0, 100)
+                .mapToObj(i -> new CourseDTO(String.format("C%03d", i), "Course " + i, "Description " + i))
+                .collect(Collectors.toList());
+        courseCatalogIndex.load(catalog);
+
+        for (int student = 0; student < 20; student++) {
+            int offset = student;
+            List<String> takenCodes = IntStream.range(0, 10)
+                    .mapToObj(j -> String.format("C%03d", (offset * 7 + j * 9) % 100))
+                    .collect(Collectors.toList());
+
+            // Act
+            List<String> notTaken = codesOf(courseCatalogIndex.complementOf(takenCodes));
+
+            // Assert
+            assertEquals(90, notTaken.size());
+            assertTrue(Collections.disjoint(takenCodes, notTaken));
+        }
+    }
+
+    private static List<String> codesOf(List<CourseDTO> courses) {
+        return courses.stream().map(CourseDTO::getCode).collect(Collectors.toList());
+    }
+}
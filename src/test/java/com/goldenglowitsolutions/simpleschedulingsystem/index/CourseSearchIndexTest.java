@@ -0,0 +1,107 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CourseSearchIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseSearchIndex courseSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(courseRepository.findAllDTOs()).thenReturn(Arrays.asList(
+                new CourseDTO("CS101", "Introduction to Programming", "Fundamental concepts of programming using Java."),
+                new CourseDTO("CS201", "Data Structures", "Lists, trees and graphs, with programming exercises."),
+                new CourseDTO("MATH101", "Calculus I", "Introduction to differential calculus."),
+                new CourseDTO("HIST101", "World History", "A survey of world history from antiquity.")));
+
+        courseSearchIndex = new CourseSearchIndex(courseRepository);
+        courseSearchIndex.rebuild();
+    }
+
+    @Test
+    void search_RanksTitleMatchesAboveDescriptionMatches() {
+        // Act
+        Page<CourseDTO> page = courseSearchIndex.search("Programming", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(Arrays.asList("CS101", "CS201"), codesOf(page.getContent()));
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    void search_ScoresCoursesMatchingMoreTermsHigher() {
+        // Act
+        Page<CourseDTO> page = courseSearchIndex.search("introduction calculus", PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(Arrays.asList("MATH101", "CS101"), codesOf(page.getContent()));
+    }
+
+    @Test
+    void search_ReturnsRequestedPage() {
+        // Act
+        Page<CourseDTO> firstPage = courseSearchIndex.search("introduction programming history", PageRequest.of(0, 2));
+        Page<CourseDTO> secondPage = courseSearchIndex.search("introduction programming history", PageRequest.of(1, 2));
+
+        // Assert
+        assertEquals(4, firstPage.getTotalElements());
+        assertEquals(2, firstPage.getContent().size());
+        assertEquals(2, secondPage.getContent().size());
+        assertTrue(codesOf(firstPage.getContent()).stream().noneMatch(codesOf(secondPage.getContent())::contains));
+        assertTrue(courseSearchIndex.search("introduction", PageRequest.of(5, 2)).getContent().isEmpty());
+    }
+
+    @Test
+    void search_WithBlankOrUnknownQuery_ReturnsEmptyPage() {
+        // Act & Assert
+        assertTrue(courseSearchIndex.search("  ", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(0, courseSearchIndex.search("chemistry", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void put_ReindexesUpdatedCourse() {
+        // Act
+        courseSearchIndex.put(new CourseDTO("HIST101", "Modern History", "Programming the printing press."));
+
+        // Assert
+        assertTrue(courseSearchIndex.search("world", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(3, courseSearchIndex.search("programming", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void remove_DropsCourseFromResults() {
+        // Act
+        courseSearchIndex.remove("CS101");
+
+        // Assert
+        assertEquals(Arrays.asList("CS201"), codesOf(courseSearchIndex.search("programming", PageRequest.of(0, 10)).getContent()));
+    }
+
+    @Test
+    void tokenize_SplitsOnNonAlphanumericCharacters() {
+        // Act & Assert
+        assertEquals(Arrays.asList("c", "programming", "101"), CourseSearchIndex.tokenize("C++ Programming-101"));
+    }
+
+    private static List<String> codesOf(List<CourseDTO> courses) {
+        return courses.stream().map(CourseDTO::getCode).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,145 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.index;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TrigramStudentSearchIndexTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private TrigramStudentSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(studentRepository.findAllDTOs()).thenReturn(Arrays.asList(
+                new StudentDTO(1L, "John", "Doe", "john.doe@example.com"),
+                new StudentDTO(2L, "Jane", "Johnson", "jane.johnson@example.com"),
+                new StudentDTO(3L, "Mary", "Smith", "mary.smith@example.com"),
+                new StudentDTO(4L, "Peter", "Littlejohn", "peter.l@example.com")));
+
+        searchIndex = new TrigramStudentSearchIndex(studentRepository, true);
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void search_MatchesSubstringsIgnoringCase() {
+        // Act & Assert
+        assertEquals(Arrays.asList(3L), idsOf(searchIndex.search("MITH", 10)));
+        assertEquals(4, searchIndex.search("example.com", 10).size());
+        assertTrue(searchIndex.search("xyz", 10).isEmpty());
+    }
+
+    @Test
+    void search_RanksExactThenPrefixThenWordStartThenSubstring() {
+        // Act
+        List<StudentDTO> results = searchIndex.search("john", 10);
+
+        // Assert: exact first name, last name prefix, substring of last name
+        assertEquals(Arrays.asList(1L, 2L, 4L), idsOf(results));
+    }
+
+    @Test
+    void search_WithShortQuery_MatchesFieldPrefixes() {
+        // Act & Assert
+        assertEquals(Arrays.asList(1L, 2L), idsOf(searchIndex.search("j", 10)));
+        assertEquals(Arrays.asList(3L), idsOf(searchIndex.search("sm", 10)));
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        // Act & Assert
+        assertEquals(Arrays.asList(1L, 2L), idsOf(searchIndex.search("john", 2)));
+    }
+
+    @Test
+    void put_ReplacesIndexedStudent() {
+        // Act
+        searchIndex.put(new StudentDTO(3L, "Mary", "Jones", "mary.jones@example.com"));
+
+        // Assert
+        assertTrue(searchIndex.search("smith", 10).isEmpty());
+        assertEquals(Arrays.asList(3L), idsOf(searchIndex.search("jones", 10)));
+        assertEquals(4, searchIndex.size());
+    }
+
+    @Test
+    void remove_DropsStudentFromResults() {
+        // Act
+        searchIndex.remove(1L);
+
+        // Assert
+        assertEquals(Arrays.asList(2L, 4L), idsOf(searchIndex.search("john", 10)));
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    void remove_AfterManyDeletes_CompactsWithoutLosingStudents() {
+        // Arrange
+        for (long id = 100; id < 5100; id++) {
+            searchIndex.put(new StudentDTO(id, "Temp", "Student" + id, "temp" + id + "@example.com"));
+        }
+
+        // Act
+        for (long id = 100; id < 5100; id++) {
+            searchIndex.remove(id);
+        }
+
+        // Assert
+        assertEquals(4, searchIndex.size());
+        assertTrue(searchIndex.search("temp", 10).isEmpty());
+        assertEquals(Arrays.asList(1L, 2L, 4L), idsOf(searchIndex.search("john", 10)));
+    }
+
+    @Test
+    void put_AfterManyUpdatesOfOneStudent_KeepsSlotsBounded() {
+        // Act
+        for (int version = 0; version < 10_000; version++) {
+            searchIndex.put(new StudentDTO(3L, "Mary", "Smith" + version, "mary.smith@example.com"));
+        }
+
+        // Assert
+        assertEquals(4, searchIndex.size());
+        assertTrue(searchIndex.slotCount() <= 2 * 1024 + 4);
+        assertEquals(List.of(3L), idsOf(searchIndex.search("smith9999", 10)));
+        assertTrue(searchIndex.search("smith9998", 10).isEmpty());
+    }
+
+    @Test
+    void search_AtOneHundredThousandStudents_AnswersQueriesQuickly() {
+        // Arrange
+        int studentCount = 100_000;
+        searchIndex.load(IntStream.range(0, studentCount)
+                .mapToObj(i -> new StudentDTO((long) i, "First" + i, "Last" + (i % 5000), "student" + i + "@example.com"))
+                .collect(Collectors.toList()));
+        List<String> queries = IntStream.range(0, 1000)
+                .mapToObj(i -> "student" + (i * 97))
+                .collect(Collectors.toList());
+        queries.forEach(query -> searchIndex.search(query, 20));
+
+        // Act & Assert: 1,000 selective queries within a generous budget
+        assertTimeout(Duration.ofSeconds(5), () -> {
+            for (String query : queries) {
+                assertFalse(searchIndex.search(query, 20).isEmpty());
+            }
+        });
+    }
+
+    private static List<Long> idsOf(List<StudentDTO> students) {
+        return students.stream().map(StudentDTO::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,124 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.interceptor;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.controller.StudentController;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitingInterceptorTest {
+
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    private ConcurrencyLimitingInterceptor interceptor;
+
+    private HandlerMethod getAll;
+
+    private HandlerMethod getById;
+
+    private HandlerMethod getPaged;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5, 1.5, Duration.ofSeconds(1));
+        interceptor = new ConcurrencyLimitingInterceptor(concurrencyLimiter);
+        StudentController controller = new StudentController(mock(StudentService.class), mock(NegativeCache.class));
+        getAll = new HandlerMethod(controller, StudentController.class.getMethod("getAllStudents"));
+        getById = new HandlerMethod(controller, StudentController.class.getMethod("getStudentById", Long.class));
+        getPaged = new HandlerMethod(controller, StudentController.class.getMethod("getPagedStudents", Pageable.class));
+    }
+
+    @Test
+    void preHandle_WhenLimitReached_Returns503WithRetryAfter() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request("/students/1"), new MockHttpServletResponse(), getById);
+        interceptor.preHandle(request("/students/2"), new MockHttpServletResponse(), getById);
+
+        // Act
+        boolean admitted = interceptor.preHandle(request("/students/3"), response, getById);
+
+        // Assert
+        assertFalse(admitted);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void preHandle_ForBulkEndpoint_IsShedBeforeOthers() throws Exception {
+        // Arrange
+        interceptor.preHandle(request("/students/1"), new MockHttpServletResponse(), getById);
+
+        // Act & Assert
+        assertFalse(interceptor.preHandle(request("/students"), new MockHttpServletResponse(), getAll));
+        assertTrue(interceptor.preHandle(request("/students/2"), new MockHttpServletResponse(), getById));
+        assertTrue(interceptor.preHandle(request("/health"), new MockHttpServletResponse(), new Object()));
+    }
+
+    @Test
+    void preHandle_ForUnmarkedEndpointWithHigherCost_IsNotShedAsBulk() throws Exception {
+        // Arrange
+        interceptor.preHandle(request("/students/1"), new MockHttpServletResponse(), getById);
+
+        // Act
+        boolean admitted = interceptor.preHandle(request("/students/paged"), new MockHttpServletResponse(), getPaged);
+
+        // Assert
+        assertTrue(admitted);
+    }
+
+    @Test
+    void afterCompletion_ReleasesAdmittedRequest() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request("/students/1");
+        interceptor.preHandle(request, new MockHttpServletResponse(), getById);
+
+        // Act
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), getById, null);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), getById, null);
+
+        // Assert
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    @Test
+    void afterCompletion_ForShortCircuitedRequests_RecordsNoLatency() throws Exception {
+        // Arrange
+        concurrencyLimiter = spy(concurrencyLimiter);
+        interceptor = new ConcurrencyLimitingInterceptor(concurrencyLimiter);
+        MockHttpServletRequest limited = request("/students/1");
+        MockHttpServletResponse limitedResponse = new MockHttpServletResponse();
+        limitedResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        MockHttpServletRequest notModified = request("/students");
+        MockHttpServletResponse notModifiedResponse = new MockHttpServletResponse();
+        notModifiedResponse.setStatus(HttpStatus.NOT_MODIFIED.value());
+        interceptor.preHandle(limited, limitedResponse, getById);
+        interceptor.preHandle(notModified, notModifiedResponse, getById);
+
+        // Act
+        interceptor.afterCompletion(limited, limitedResponse, getById, null);
+        interceptor.afterCompletion(notModified, notModifiedResponse, getById, null);
+
+        // Assert
+        verify(concurrencyLimiter, times(2)).release();
+        verify(concurrencyLimiter, never()).release(anyLong());
+        assertEquals(0, concurrencyLimiter.getInFlight());
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("GET", path);
+    }
+}
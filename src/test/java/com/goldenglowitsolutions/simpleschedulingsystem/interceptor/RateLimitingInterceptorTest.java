@@ -0,0 +1,121 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.interceptor;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import com.goldenglowitsolutions.simpleschedulingsystem.controller.StudentController;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.ClientKeyResolver;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.EndpointCosts;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.RateLimitAlgorithm;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RateLimitingInterceptorTest {
+
+    private RateLimitingContainer rateLimitingContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimitingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitingContainer = new RateLimitingContainer(RateLimitAlgorithm.FIXED_WINDOW, 2, 2, 1, 100);
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RateLimitingInterceptor(rateLimitingContainer, new ClientKeyResolver("X-API-Key", Set.of("team-a")),
+                new EndpointCosts(new MockEnvironment(), meterRegistry, rateLimitingContainer));
+    }
+
+    @Test
+    void preHandle_WhenClientExceedsLimit_Returns429() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean first = interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null);
+        boolean second = interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null);
+        boolean third = interceptor.preHandle(request("10.0.0.1", null), response, null);
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+    }
+
+    @Test
+    void preHandle_WhenOneClientIsLimited_OtherClientsAreAdmitted() throws Exception {
+        // Arrange
+        interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null);
+
+        // Act & Assert
+        assertFalse(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("10.0.0.2", null), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("10.0.0.1", "team-a"), new MockHttpServletResponse(), null));
+        assertEquals(2, rateLimitingContainer.getAvailableTokens("addr:10.0.0.3"));
+    }
+
+    @Test
+    void preHandle_WithSameApiKeyFromDifferentAddresses_SharesOneBucket() throws Exception {
+        // Act
+        interceptor.preHandle(request("10.0.0.1", "team-a"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("10.0.0.2", "team-a"), new MockHttpServletResponse(), null);
+
+        // Assert
+        assertFalse(interceptor.preHandle(request("10.0.0.3", "team-a"), new MockHttpServletResponse(), null));
+        assertEquals(0, rateLimitingContainer.getAvailableTokens("key:team-a"));
+    }
+
+    @Test
+    void preHandle_WithUnknownApiKeys_IsKeyedByAddress() throws Exception {
+        // Act
+        interceptor.preHandle(request("10.0.0.1", "random-1"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("10.0.0.1", "random-2"), new MockHttpServletResponse(), null);
+
+        // Assert
+        assertFalse(interceptor.preHandle(request("10.0.0.1", "random-3"), new MockHttpServletResponse(), null));
+        assertEquals(1, rateLimitingContainer.getTrackedClients());
+    }
+
+    @Test
+    void preHandle_ForExpensiveEndpoint_ConsumesItsCost() throws Exception {
+        // Arrange
+        rateLimitingContainer = new RateLimitingContainer(RateLimitAlgorithm.FIXED_WINDOW, 6, 6, 1, 100);
+        interceptor = new RateLimitingInterceptor(rateLimitingContainer, new ClientKeyResolver("X-API-Key", Set.of("team-a")),
+                new EndpointCosts(new MockEnvironment(), meterRegistry, rateLimitingContainer));
+        StudentController controller = new StudentController(mock(StudentService.class), mock(NegativeCache.class));
+        HandlerMethod getAll = new HandlerMethod(controller, StudentController.class.getMethod("getAllStudents"));
+        HandlerMethod getById = new HandlerMethod(controller, StudentController.class.getMethod("getStudentById", Long.class));
+
+        // Act & Assert
+        assertTrue(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), getAll));
+        assertFalse(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), getAll));
+        assertTrue(interceptor.preHandle(request("10.0.0.1", null), new MockHttpServletResponse(), getById));
+        assertEquals(0, rateLimitingContainer.getAvailableTokens("addr:10.0.0.1"));
+        assertEquals(5.0, meterRegistry.get("ratelimit.tokens.consumed")
+                .tag("endpoint", "StudentController.getAllStudents").counter().count());
+        assertEquals(1.0, meterRegistry.get("ratelimit.tokens.consumed")
+                .tag("endpoint", "StudentController.getStudentById").counter().count());
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students");
+        request.setRemoteAddr(remoteAddr);
+        if (apiKey != null) {
+            request.addHeader("X-API-Key", apiKey);
+        }
+        return request;
+    }
+}
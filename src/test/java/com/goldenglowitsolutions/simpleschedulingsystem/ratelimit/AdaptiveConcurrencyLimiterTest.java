@@ -0,0 +1,130 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.AdaptiveConcurrencyLimiter.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void tryAcquire_BeyondLimit_ShedsRequest() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        // Act & Assert
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(Priority.NORMAL));
+        }
+        assertFalse(limiter.tryAcquire(Priority.NORMAL));
+        assertEquals(4, limiter.getInFlight());
+        assertEquals(1, limiter.getShed());
+    }
+
+    @Test
+    void tryAcquire_ForBulkRequests_UsesOnlyTheBulkShare() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        // Act & Assert
+        assertTrue(limiter.tryAcquire(Priority.BULK));
+        assertTrue(limiter.tryAcquire(Priority.BULK));
+        assertFalse(limiter.tryAcquire(Priority.BULK));
+        assertTrue(limiter.tryAcquire(Priority.NORMAL));
+    }
+
+    @Test
+    void tryAcquire_ForCriticalRequests_AlwaysAdmits() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire(Priority.NORMAL);
+        }
+
+        // Act & Assert
+        assertFalse(limiter.tryAcquire(Priority.NORMAL));
+        assertTrue(limiter.tryAcquire(Priority.CRITICAL));
+        assertEquals(5, limiter.getInFlight());
+    }
+
+    @Test
+    void release_WhenSaturatedWithSteadyLatency_GrowsLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Act
+        runWindows(limiter, 0, 5, FAST);
+
+        // Assert
+        assertTrue(limiter.getLimit() > 20, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    void release_WhenLatencyRises_ShrinksLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        runWindows(limiter, 0, 5, FAST);
+        int before = limiter.getLimit();
+
+        // Act
+        runWindows(limiter, 5, 5, SLOW);
+
+        // Assert
+        assertTrue(limiter.getLimit() < before, "limit went from " + before + " to " + limiter.getLimit());
+        assertTrue(limiter.getLimit() >= 4);
+    }
+
+    @Test
+    void release_WhenLimitIsNotUsed_KeepsLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        // Act: one request at a time
+        for (int window = 1; window <= 5; window++) {
+            for (int i = 0; i < 20; i++) {
+                limiter.tryAcquire(Priority.NORMAL);
+                limiter.release(FAST, window * WINDOW + i);
+            }
+        }
+
+        // Assert
+        assertEquals(20, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void constructor_WithInvalidLimits_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(2, 4, 200, 0.5, 1.5, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(20, 4, 200, 0, 1.5, Duration.ofSeconds(1)));
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, Math.min(4, initialLimit), 200, 0.5, 1.5,
+                Duration.ofSeconds(1), 0);
+    }
+
+    // Fills the limit and releases every request with the given latency, one window at a time
+    private static void runWindows(AdaptiveConcurrencyLimiter limiter, int first, int count, long rttNanos) {
+        for (int window = first + 1; window <= first + count; window++) {
+            int admitted = 0;
+            while (limiter.tryAcquire(Priority.NORMAL)) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.release(rttNanos, window * WINDOW + i);
+            }
+        }
+    }
+}
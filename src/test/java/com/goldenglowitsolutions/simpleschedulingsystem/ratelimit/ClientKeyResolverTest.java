@@ -0,0 +1,71 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the aws profile on a real server, because the forwarded headers are applied by the servlet container.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("aws")
+class ClientKeyResolverTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void resolve_BehindLoadBalancer_KeysByForwardedClientAddress() {
+        // Act
+        String key = clientKey("203.0.113.7");
+
+        // Assert
+        assertEquals("addr:203.0.113.7", key);
+    }
+
+    @Test
+    void resolve_IgnoresAddressesTheClientPrependedItself() {
+        // Act: only the hop the load balancer appended is trusted
+        String key = clientKey("198.51.100.1, 203.0.113.7");
+
+        // Assert
+        assertEquals("addr:203.0.113.7", key);
+    }
+
+    private String clientKey(String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.exchange("/test/client-key", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getBody();
+    }
+
+    @TestConfiguration
+    static class ClientKeyEndpoint {
+
+        @RestController
+        static class ClientKeyController {
+
+            private final ClientKeyResolver clientKeyResolver;
+
+            ClientKeyController(ClientKeyResolver clientKeyResolver) {
+                this.clientKeyResolver = clientKeyResolver;
+            }
+
+            @GetMapping("/test/client-key")
+            String clientKey(HttpServletRequest request) {
+                return clientKeyResolver.resolve(request);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import com.goldenglowitsolutions.simpleschedulingsystem.controller.StudentController;
+import com.goldenglowitsolutions.simpleschedulingsystem.ratelimit.EndpointCosts.EndpointCost;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.StudentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class EndpointCostsTest {
+
+    private MockEnvironment environment;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EndpointCosts endpointCosts;
+
+    private StudentController controller;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        meterRegistry = new SimpleMeterRegistry();
+        endpointCosts = new EndpointCosts(environment, meterRegistry, containerWithBurst(20));
+        controller = new StudentController(mock(StudentService.class), mock(NegativeCache.class));
+    }
+
+    @Test
+    void resolve_UsesDeclaredCostOrOne() throws NoSuchMethodException {
+        // Act
+        EndpointCost getAll = endpointCosts.resolve(handler("getAllStudents"));
+        EndpointCost getById = endpointCosts.resolve(handler("getStudentById", Long.class));
+
+        // Assert
+        assertEquals("StudentController.getAllStudents", getAll.getName());
+        assertEquals(5, getAll.getCost());
+        assertEquals(1, getById.getCost());
+        assertEquals(1, endpointCosts.resolve(new Object()).getCost());
+    }
+
+    @Test
+    void resolve_WithConfiguredCost_OverridesAnnotation() throws NoSuchMethodException {
+        // Arrange
+        environment.setProperty("app.ratelimiting.costs.StudentController.getAllStudents", "8");
+
+        // Act
+        EndpointCost getAll = endpointCosts.resolve(handler("getAllStudents"));
+
+        // Assert
+        assertEquals(8, getAll.getCost());
+    }
+
+    @Test
+    void resolve_WithDeclaredCostAboveBurst_ThrowsException() {
+        // Arrange
+        endpointCosts = new EndpointCosts(environment, meterRegistry, containerWithBurst(4));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> endpointCosts.resolve(handler("getAllStudents")));
+    }
+
+    @Test
+    void resolve_WithConfiguredCostAboveBurst_ThrowsException() {
+        // Arrange
+        environment.setProperty("app.ratelimiting.costs.StudentController.getStudentById", "21");
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> endpointCosts.resolve(handler("getStudentById", Long.class)));
+    }
+
+    @Test
+    void setCost_ChangesCostOfRegisteredEndpoints() throws NoSuchMethodException {
+        // Arrange
+        EndpointCost getAll = endpointCosts.resolve(handler("getAllStudents"));
+        endpointCosts.registerAll(List.of(handler("searchStudents", String.class, int.class)));
+
+        // Act
+        endpointCosts.setCost("StudentController.getAllStudents", 12);
+        endpointCosts.setCost("StudentController.searchStudents", 0);
+
+        // Assert
+        assertEquals(12, getAll.getCost());
+        assertEquals(0, endpointCosts.resolve(handler("searchStudents", String.class, int.class)).getCost());
+        assertEquals(12, endpointCosts.getCosts().get("StudentController.getAllStudents"));
+    }
+
+    @Test
+    void resetCost_GoesBackToDeclaredCost() throws NoSuchMethodException {
+        // Arrange
+        EndpointCost getAll = endpointCosts.resolve(handler("getAllStudents"));
+        endpointCosts.setCost("StudentController.getAllStudents", 12);
+
+        // Act
+        endpointCosts.resetCost("StudentController.getAllStudents");
+
+        // Assert
+        assertEquals(5, getAll.getCost());
+    }
+
+    @Test
+    void setCost_WithCostOutsideZeroToBurst_ThrowsException() throws NoSuchMethodException {
+        // Arrange
+        endpointCosts.resolve(handler("getAllStudents"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> endpointCosts.setCost("StudentController.getAllStudents", -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> endpointCosts.setCost("StudentController.getAllStudents", 21));
+        endpointCosts.setCost("StudentController.getAllStudents", 20);
+        assertEquals(20, endpointCosts.getCosts().get("StudentController.getAllStudents"));
+    }
+
+    @Test
+    void setCost_ForUnknownEndpoint_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> endpointCosts.setCost("StudentController.getAllStudnets", 2));
+        assertFalse(endpointCosts.getCosts().containsKey("StudentController.getAllStudnets"));
+    }
+
+    @Test
+    void recordConsumed_CountsTokensPerEndpoint() throws NoSuchMethodException {
+        // Arrange
+        EndpointCost getAll = endpointCosts.resolve(handler("getAllStudents"));
+
+        // Act
+        getAll.recordConsumed(5);
+        getAll.recordConsumed(5);
+
+        // Assert
+        assertEquals(10.0, meterRegistry.get("ratelimit.tokens.consumed")
+                .tag("endpoint", "StudentController.getAllStudents").counter().count());
+    }
+
+    private static RateLimitingContainer containerWithBurst(int burst) {
+        return new RateLimitingContainer(RateLimitAlgorithm.GCRA, 20, burst, 1, 100);
+    }
+
+    private HandlerMethod handler(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new HandlerMethod(controller, StudentController.class.getMethod(name, parameterTypes));
+    }
+}
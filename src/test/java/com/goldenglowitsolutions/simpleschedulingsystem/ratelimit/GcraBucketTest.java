@@ -0,0 +1,95 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcraBucketTest {
+
+    // 20 tokens per minute: one every 3 seconds
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(3);
+
+    @Test
+    void tryConsume_UpToBurst_Succeeds() {
+        // Arrange
+        GcraBucket bucket = new GcraBucket(20, 5, Duration.ofMinutes(1), 0);
+
+        // Act & Assert
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryConsume(1, 0));
+        }
+        assertFalse(bucket.tryConsume(1, 0));
+        assertEquals(0, bucket.getAvailableTokens(0));
+    }
+
+    @Test
+    void tryConsume_RefillsOneTokenPerEmissionInterval() {
+        // Arrange
+        GcraBucket bucket = new GcraBucket(20, 5, Duration.ofMinutes(1), 0);
+        bucket.tryConsume(5, 0);
+
+        // Act & Assert
+        assertFalse(bucket.tryConsume(1, INTERVAL - 1));
+        assertTrue(bucket.tryConsume(1, INTERVAL));
+        assertFalse(bucket.tryConsume(1, INTERVAL));
+        assertEquals(2, bucket.getAvailableTokens(3 * INTERVAL));
+    }
+
+    @Test
+    void tryConsume_AcrossAWindowBoundary_DoesNotAllowADoubleBurst() {
+        // Arrange: a whole minute's capacity spent just before a fixed window would have reset
+        GcraBucket bucket = new GcraBucket(20, 20, Duration.ofMinutes(1), 0);
+        long justBeforeBoundary = TimeUnit.SECONDS.toNanos(59);
+        int granted = 0;
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            if (bucket.tryConsume(1, justBeforeBoundary + i)) {
+                granted++;
+            }
+        }
+        for (int i = 0; i < 40; i++) {
+            if (bucket.tryConsume(1, TimeUnit.SECONDS.toNanos(61) + i)) {
+                granted++;
+            }
+        }
+
+        // Assert: only the tokens trickled back in the two seconds in between
+        assertEquals(20, granted);
+    }
+
+    @Test
+    void tryConsume_WhenIdle_NeverExceedsBurst() {
+        // Arrange
+        GcraBucket bucket = new GcraBucket(20, 5, Duration.ofMinutes(1), 0);
+
+        // Act & Assert
+        assertEquals(5, bucket.getAvailableTokens(TimeUnit.HOURS.toNanos(1)));
+        assertTrue(bucket.tryConsume(5, TimeUnit.HOURS.toNanos(1)));
+        assertFalse(bucket.tryConsume(1, TimeUnit.HOURS.toNanos(1)));
+    }
+
+    @Test
+    void tryConsume_MoreThanAvailable_LeavesTokensUntouched() {
+        // Arrange
+        GcraBucket bucket = new GcraBucket(20, 5, Duration.ofMinutes(1), 0);
+        bucket.tryConsume(3, 0);
+
+        // Act
+        boolean consumed = bucket.tryConsume(3, 0);
+
+        // Assert
+        assertFalse(consumed);
+        assertEquals(2, bucket.getAvailableTokens(0));
+    }
+
+    @Test
+    void refillTime_ForGcra_IsTheTimeToRefillTheBurst() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(15), RateLimitAlgorithm.GCRA.refillTime(20, 5, Duration.ofMinutes(1)));
+        assertEquals(Duration.ofMinutes(1), RateLimitAlgorithm.FIXED_WINDOW.refillTime(20, 5, Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.config.RateLimitingConfig.RateLimitingContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PrefetchingBucketTest {
+
+    private BucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = spy(new InMemoryBucketStore(RateLimitAlgorithm.FIXED_WINDOW, 10, 10, Duration.ofMinutes(1), 100));
+    }
+
+    @Test
+    void tryConsume_ServesRequestsFromPrefetchedBatch() {
+        // Arrange
+        PrefetchingBucket bucket = new PrefetchingBucket(store, "addr:10.0.0.1", 10, 5);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bucket.tryConsume(1));
+        }
+
+        // Assert
+        verify(store, times(2)).tryAcquire(eq("addr:10.0.0.1"), anyInt(), anyInt());
+        assertFalse(bucket.tryConsume(1));
+        assertEquals(0, bucket.getAvailableTokens());
+    }
+
+    @Test
+    void tryConsume_AcrossNodes_NeverExceedsSharedBudget() {
+        // Arrange
+        RateLimitingContainer node1 = new RateLimitingContainer(RateLimitAlgorithm.FIXED_WINDOW, 10, 10, 1, 100, store, 3);
+        RateLimitingContainer node2 = new RateLimitingContainer(RateLimitAlgorithm.FIXED_WINDOW, 10, 10, 1, 100, store, 3);
+        int admitted = 0;
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            RateLimitingContainer node = i % 2 == 0 ? node1 : node2;
+            if (node.tryConsume("addr:10.0.0.1", 1)) {
+                admitted++;
+            }
+        }
+
+        // Assert
+        assertEquals(10, admitted);
+        assertTrue(node1.isShared());
+    }
+
+    @Test
+    void tryConsume_WithCostAbovePrefetch_TakesTheShortfall() {
+        // Arrange
+        PrefetchingBucket bucket = new PrefetchingBucket(store, "addr:10.0.0.1", 10, 2);
+
+        // Act & Assert
+        assertTrue(bucket.tryConsume(7));
+        assertFalse(bucket.tryConsume(4));
+        assertEquals(3, store.getAvailableTokens("addr:10.0.0.1"));
+        assertTrue(bucket.tryConsume(3));
+    }
+
+    @Test
+    void tryAcquire_TakesAvailableTokensWithinBounds() {
+        // Act & Assert
+        assertEquals(4, store.tryAcquire("addr:10.0.0.1", 1, 4));
+        assertEquals(6, store.tryAcquire("addr:10.0.0.1", 2, 8));
+        assertEquals(0, store.tryAcquire("addr:10.0.0.1", 1, 4));
+        assertEquals(10, store.getAvailableTokens("addr:10.0.0.2"));
+    }
+
+    @Test
+    void tryAcquire_WithFewerThanMinimumAvailable_TakesNothing() {
+        // Arrange
+        store.tryAcquire("addr:10.0.0.1", 8, 8);
+
+        // Act
+        int taken = store.tryAcquire("addr:10.0.0.1", 3, 5);
+
+        // Assert
+        assertEquals(0, taken);
+        assertEquals(2, store.getAvailableTokens("addr:10.0.0.1"));
+    }
+}
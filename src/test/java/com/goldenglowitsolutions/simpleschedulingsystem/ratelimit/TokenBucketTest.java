@@ -0,0 +1,104 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void tryConsume_WithinCapacity_Succeeds() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(5, Duration.ofMinutes(1), 0);
+
+        // Act & Assert
+        assertTrue(bucket.tryConsume(3, 10));
+        assertTrue(bucket.tryConsume(2, 20));
+        assertFalse(bucket.tryConsume(1, 30));
+        assertEquals(0, bucket.getAvailableTokens(30));
+    }
+
+    @Test
+    void tryConsume_MoreThanAvailable_LeavesTokensUntouched() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(5, Duration.ofMinutes(1), 0);
+        bucket.tryConsume(3, 10);
+
+        // Act
+        boolean consumed = bucket.tryConsume(3, 20);
+
+        // Assert
+        assertFalse(consumed);
+        assertEquals(2, bucket.getAvailableTokens(20));
+    }
+
+    @Test
+    void tryConsume_AfterPeriod_RefillsToCapacity() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMinutes(1), 0);
+        bucket.tryConsume(2, 10);
+
+        // Act & Assert
+        assertFalse(bucket.tryConsume(1, MINUTE - 1));
+        assertEquals(2, bucket.getAvailableTokens(MINUTE));
+        assertTrue(bucket.tryConsume(2, MINUTE + 10));
+        assertFalse(bucket.tryConsume(1, MINUTE + 20));
+    }
+
+    @Test
+    void tryConsume_WithStaleClockReading_DoesNotRefillAgain() {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMinutes(1), 0);
+        bucket.tryConsume(2, MINUTE + 10);
+
+        // Act: a thread that read the clock before the window changed
+        boolean consumed = bucket.tryConsume(1, MINUTE - 10);
+
+        // Assert
+        assertFalse(consumed);
+    }
+
+    @Test
+    void tryConsume_FromManyThreads_NeverExceedsCapacity() throws InterruptedException {
+        // Arrange
+        TokenBucket bucket = new TokenBucket(1000, Duration.ofHours(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 500; j++) {
+                    if (bucket.tryConsume(1)) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertEquals(1000, granted.get());
+        assertEquals(0, bucket.getAvailableTokens());
+    }
+
+    @Test
+    void constructor_WithInvalidCapacity_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, Duration.ofMinutes(1)));
+    }
+}
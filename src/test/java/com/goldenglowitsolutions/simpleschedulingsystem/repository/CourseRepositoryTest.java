@@ -0,0 +1,132 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CourseRepositoryTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // Rows loaded by an earlier, rolled-back test may still sit in the second-level cache
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        Course course = entityManager.persist(new Course("CS101", "Introduction to Programming", "Description 1"));
+
+        Student student1 = new Student("John", "Doe", "john.doe@example.com");
+        student1.addCourse(course);
+        entityManager.persist(student1);
+
+        Student student2 = new Student("Jane", "Smith", "jane.smith@example.com");
+        student2.addCourse(course);
+        entityManager.persist(student2);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithStudentsByCode_FetchesCourseAndStudentsInOneQuery() {
+        // Act
+        Course course = courseRepository.findWithStudentsByCode("CS101").orElseThrow();
+
+        // Assert
+        assertEquals(2, course.getStudents().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithStudentsByCode_WithUnknownCode_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(courseRepository.findWithStudentsByCode("UNKNOWN").isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteByCode_CostIsIndependentOfEnrollmentSize() {
+        // Arrange
+        Course popular = entityManager.persist(new Course("BIG101", "Popular Course", "Description"));
+        for (int i = 0; i < 200; i++) {
+            Student student = new Student("First" + i, "Last" + i, "student" + i + "@example.com");
+            student.addCourse(popular);
+            entityManager.persist(student);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        long smallStatements = deleteCourseAndCountStatements("CS101");
+        long largeStatements = deleteCourseAndCountStatements("BIG101");
+
+        // Assert
+        assertEquals(2, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertFalse(courseRepository.existsById("BIG101"));
+        assertTrue(enrollmentRepository.findIdsByStudentIds(
+                entityManager.getEntityManager()
+                        .createQuery("SELECT s.id FROM Student s", Long.class)
+                        .getResultList()).isEmpty());
+    }
+
+    @Test
+    void findCoursesNotTakenByStudent_ReturnsComplementInOneQuery() {
+        // Arrange
+        entityManager.persist(new Course("MATH101", "Calculus I", "Description 2"));
+        entityManager.flush();
+        Long studentId = entityManager.getEntityManager()
+                .createQuery("SELECT s.id FROM Student s WHERE s.email = 'john.doe@example.com'", Long.class)
+                .getSingleResult();
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        List<Course> notTaken = courseRepository.findCoursesNotTakenByStudent(studentId);
+
+        // Assert
+        assertEquals(1, notTaken.size());
+        assertEquals("MATH101", notTaken.get(0).getCode());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findCoursesNotTakenByStudent_WithUnknownStudent_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(courseRepository.findCoursesNotTakenByStudent(-1L).isEmpty());
+    }
+
+    /**
+     * Deletes a course the way the course service does and returns the number of statements issued.
+     */
+    private long deleteCourseAndCountStatements(String code) {
+        statistics.clear();
+        assertEquals(1, courseRepository.deleteByCode(code));
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,108 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.EnrollmentId;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class EnrollmentRepositoryTest {
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private final List<Long> studentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Rows loaded by an earlier, rolled-back test may still sit in the second-level cache
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        entityManager.persist(new Course("CS101", "Introduction to Programming", "Description 1"));
+        entityManager.persist(new Course("MATH101", "Calculus I", "Description 2"));
+        for (int i = 0; i < 60; i++) {
+            studentIds.add(entityManager.persistAndGetId(
+                    new Student("First" + i, "Last" + i, "student" + i + "@example.com"), Long.class));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAllAndFlush_WritesJoinRowsInBatchesWithoutSelects() {
+        // Arrange
+        List<Enrollment> enrollments = studentIds.stream()
+                .map(id -> new Enrollment(id, "CS101"))
+                .collect(Collectors.toList());
+
+        // Act
+        enrollmentRepository.saveAllAndFlush(enrollments);
+
+        // Assert
+        assertEquals(60, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void enrollmentRows_AreVisibleThroughStudentCourses() {
+        // Arrange
+        Long studentId = studentIds.get(0);
+        enrollmentRepository.saveAllAndFlush(List.of(
+                new Enrollment(studentId, "CS101"), new Enrollment(studentId, "MATH101")));
+        entityManager.clear();
+
+        // Act
+        Student student = studentRepository.findWithCoursesById(studentId).orElseThrow();
+        List<EnrollmentId> ids = enrollmentRepository.findIdsByStudentIds(List.of(studentId));
+
+        // Assert
+        assertEquals(2, student.getCourses().size());
+        assertEquals(2, ids.size());
+        assertTrue(ids.contains(new EnrollmentId(studentId, "MATH101")));
+    }
+
+    @Test
+    void deleteByStudentIdAndCourseCode_DeletesSingleRowWithOneStatement() {
+        // Arrange
+        enrollmentRepository.saveAllAndFlush(studentIds.stream()
+                .map(id -> new Enrollment(id, "CS101"))
+                .collect(Collectors.toList()));
+        entityManager.clear();
+        statistics.clear();
+
+        // Act
+        int deleted = enrollmentRepository.deleteByStudentIdAndCourseCode(studentIds.get(0), "CS101");
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(59, enrollmentRepository.count());
+    }
+}
@@ -0,0 +1,159 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.repository;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class StudentRepositoryTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Long studentId;
+
+    @BeforeEach
+    void setUp() {
+        // Rows loaded by an earlier, rolled-back test may still sit in the second-level cache
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        Course course1 = entityManager.persist(new Course("CS101", "Introduction to Programming", "Description 1"));
+        Course course2 = entityManager.persist(new Course("MATH101", "Calculus I", "Description 2"));
+
+        Student student = new Student("John", "Doe", "john.doe@example.com");
+        student.addCourse(course1);
+        student.addCourse(course2);
+        studentId = entityManager.persistAndGetId(student, Long.class);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithCoursesById_FetchesStudentAndCoursesInOneQuery() {
+        // Act
+        Student student = studentRepository.findWithCoursesById(studentId).orElseThrow();
+
+        // Assert
+        assertEquals(2, student.getCourses().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findById_LoadsCoursesWithSecondQuery() {
+        // Act
+        Student student = studentRepository.findById(studentId).orElseThrow();
+
+        // Assert
+        assertEquals(2, student.getCourses().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void saveAllAndFlush_InsertsStudentsInJdbcBatches() {
+        // Arrange
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            students.add(new Student("First" + i, "Last" + i, "batch" + i + "@example.com"));
+        }
+
+        // Act
+        studentRepository.saveAllAndFlush(students);
+
+        // Assert
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void findExistingEmails_ReturnsOnlyRegisteredEmails() {
+        // Act
+        Set<String> existing = studentRepository.findExistingEmails(
+                List.of("john.doe@example.com", "unknown@example.com"));
+
+        // Assert
+        assertEquals(Set.of("john.doe@example.com"), existing);
+    }
+
+    @Test
+    void findAllDTOs_DoesNotHydrateEntities() {
+        // Act
+        List<StudentDTO> students = studentRepository.findAllDTOs();
+
+        // Assert
+        assertEquals(1, students.size());
+        assertEquals("john.doe@example.com", students.get(0).getEmail());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void findDTOsByCourseCode_ReturnsEnrolledStudents() {
+        // Act
+        List<StudentDTO> students = studentRepository.findDTOsByCourseCode("CS101");
+
+        // Assert
+        assertEquals(1, students.size());
+        assertEquals(studentId, students.get(0).getId());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void searchDTOs_MatchesIgnoringCaseAndEscapesWildcards() {
+        // Act & Assert
+        assertEquals(1, studentRepository.searchDTOs("DOE", PageRequest.of(0, 10)).size());
+        assertEquals(1, studentRepository.searchDTOs("example.com", PageRequest.of(0, 10)).size());
+        assertTrue(studentRepository.searchDTOs("%", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findAllByOrderByLastNameAscIdAsc_SeeksPastTiesOnLastName() {
+        // Arrange
+        entityManager.persist(new Student("Jane", "Doe", "jane.doe@example.com"));
+        entityManager.persist(new Student("Adam", "Adams", "adam.adams@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Window<Student> first = studentRepository.findAllByOrderByLastNameAscIdAsc(
+                ScrollPosition.keyset(), Limit.of(2));
+        Window<Student> second = studentRepository.findAllByOrderByLastNameAscIdAsc(
+                first.positionAt(first.size() - 1), Limit.of(2));
+
+        // Assert
+        assertEquals(List.of("Adams", "Doe"), first.stream().map(Student::getLastName).toList());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.size());
+        assertEquals("Doe", second.getContent().get(0).getLastName());
+        assertNotEquals(first.getContent().get(1).getId(), second.getContent().get(0).getId());
+        assertFalse(second.hasNext());
+    }
+}
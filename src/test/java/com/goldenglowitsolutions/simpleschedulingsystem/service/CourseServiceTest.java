@@ -1,17 +1,28 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.service;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
 import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.CourseCatalogIndex;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.CourseSearchIndex;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.impl.CourseServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.*;
 
@@ -27,6 +38,27 @@ class CourseServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseCatalogIndex courseCatalogIndex;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private RosterChangeLog rosterChangeLog;
+
+    @Mock
+    private NegativeCache negativeCache;
+
     @InjectMocks
     private CourseServiceImpl courseService;
 
@@ -62,7 +94,9 @@ class CourseServiceTest {
     @Test
     void getAllCourses_ReturnsListOfCourseDTOs() {
         // Arrange
-        when(courseRepository.findAll()).thenReturn(Arrays.asList(course1, course2));
+        when(courseRepository.findAllDTOs()).thenReturn(Arrays.asList(
+                new CourseDTO("CS101", "Introduction to Programming", "Fundamental concepts of programming using Java."),
+                new CourseDTO("MATH101", "Calculus I", "Introduction to differential calculus.")));
 
         // Act
         List<CourseDTO> courses = courseService.getAllCourses();
@@ -96,6 +130,7 @@ class CourseServiceTest {
         assertThrows(EntityNotFoundException.class, () -> {
             courseService.getCourseByCode("INVALID");
         });
+        verify(negativeCache).markMissing(Course.class, "INVALID");
     }
 
     @Test
@@ -118,6 +153,10 @@ class CourseServiceTest {
         assertEquals("NEW101", createdCourseDTO.getCode());
         assertEquals("New Course", createdCourseDTO.getTitle());
         verify(courseRepository, times(1)).save(any(Course.class));
+        verify(negativeCache).forget(Course.class, "NEW101");
+        InOrder afterCommit = inOrder(cacheInvalidator, dataVersions);
+        afterCommit.verify(cacheInvalidator).evictCourseCatalog();
+        afterCommit.verify(dataVersions).bump(DataVersions.Aggregate.COURSES);
     }
 
     @Test
@@ -132,6 +171,7 @@ class CourseServiceTest {
 
         when(courseRepository.findById("CS101")).thenReturn(Optional.of(course1));
         when(courseRepository.save(any(Course.class))).thenReturn(updatedCourse);
+        when(enrollmentRepository.findStudentIdsByCourseCode("CS101")).thenReturn(Arrays.asList(1L));
 
         // Act
         CourseDTO updatedCourseDTO = courseService.updateCourse("CS101", courseDTO);
@@ -141,41 +181,35 @@ class CourseServiceTest {
         assertEquals("Updated Programming Course", updatedCourseDTO.getTitle());
         assertEquals("Updated description", updatedCourseDTO.getDescription());
         verify(courseRepository, times(1)).save(any(Course.class));
+        verify(cacheInvalidator, times(1)).courseUpdated("CS101", Arrays.asList(1L));
     }
 
     @Test
-    void deleteCourse_WithValidCode_DeletesCourse() {
+    void deleteCourse_WithValidCode_DeletesCourseInBulk() {
         // Arrange
-        when(courseRepository.findById("CS101")).thenReturn(Optional.of(course1));
-        doNothing().when(courseRepository).deleteById("CS101");
-        
-        // Empty student set for this test
-        course1.setStudents(new HashSet<>());
+        when(enrollmentRepository.findStudentIdsByCourseCode("CS101")).thenReturn(Arrays.asList(1L, 2L));
+        when(courseRepository.deleteByCode("CS101")).thenReturn(1);
 
         // Act
         courseService.deleteCourse("CS101");
 
         // Assert
-        verify(courseRepository, times(1)).deleteById("CS101");
+        verify(courseRepository, times(1)).deleteByCode("CS101");
+        verify(courseRepository, never()).findById(anyString());
+        verify(studentRepository, never()).save(any(Student.class));
+        verify(cacheInvalidator, times(1)).courseDeleted("CS101", Arrays.asList(1L, 2L));
     }
 
     @Test
-    void deleteCourse_WithStudents_RemovesCoursesFromStudentsBeforeDeleting() {
+    void deleteCourse_WithInvalidCode_ThrowsException() {
         // Arrange
-        Set<Student> students = new HashSet<>();
-        students.add(student1);
-        course1.setStudents(students);
-        
-        when(courseRepository.findById("CS101")).thenReturn(Optional.of(course1));
-        doNothing().when(courseRepository).deleteById("CS101");
-        when(studentRepository.save(any(Student.class))).thenReturn(student1);
+        when(courseRepository.deleteByCode("INVALID")).thenReturn(0);
 
-        // Act
-        courseService.deleteCourse("CS101");
-
-        // Assert
-        verify(studentRepository, times(1)).save(student1);
-        verify(courseRepository, times(1)).deleteById("CS101");
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> {
+            courseService.deleteCourse("INVALID");
+        });
+        verifyNoInteractions(cacheInvalidator);
     }
 
     @Test
@@ -185,7 +219,7 @@ class CourseServiceTest {
         students.add(student1);
         course1.setStudents(students);
         
-        when(courseRepository.findById("CS101")).thenReturn(Optional.of(course1));
+        when(courseRepository.findWithStudentsByCode("CS101")).thenReturn(Optional.of(course1));
 
         // Act
         CourseDTO courseDTO = courseService.getCourseWithStudents("CS101");
@@ -233,4 +267,72 @@ class CourseServiceTest {
         assertEquals(1, courseDTOs.size());
         assertEquals("MATH101", courseDTOs.get(0).getCode());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getCoursesNotTakenByStudent_WithUnknownStudent_ThrowsException() {
+        // Arrange
+        when(courseRepository.findCoursesNotTakenByStudent(99L)).thenReturn(Collections.emptyList());
+        when(studentRepository.existsById(99L)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> courseService.getCoursesNotTakenByStudent(99L));
+    }
+
+    @Test
+    void getCoursesNotTakenByStudent_WithResults_SkipsExistenceCheck() {
+        // Arrange
+        when(courseRepository.findCoursesNotTakenByStudent(1L)).thenReturn(Arrays.asList(course2));
+
+        // Act
+        courseService.getCoursesNotTakenByStudent(1L);
+
+        // Assert
+        verify(studentRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void getCoursesNotTakenByStudent_WithIndexEnabled_UsesCatalogIndex() {
+        // Arrange
+        List<String> takenCodes = Arrays.asList("CS101");
+        when(courseCatalogIndex.isEnabled()).thenReturn(true);
+        when(enrollmentRepository.findCourseCodesByStudentId(1L)).thenReturn(takenCodes);
+        when(courseCatalogIndex.complementOf(takenCodes)).thenReturn(Arrays.asList(
+                new CourseDTO("MATH101", "Calculus I", "Introduction to differential calculus.")));
+
+        // Act
+        List<CourseDTO> courseDTOs = courseService.getCoursesNotTakenByStudent(1L);
+
+        // Assert
+        assertEquals(1, courseDTOs.size());
+        assertEquals("MATH101", courseDTOs.get(0).getCode());
+        verify(courseRepository, never()).findCoursesNotTakenByStudent(anyLong());
+    }
+
+    @Test
+    void deleteCourse_RemovesCourseFromCatalogIndex() {
+        // Arrange
+        when(courseRepository.deleteByCode("CS101")).thenReturn(1);
+
+        // Act
+        courseService.deleteCourse("CS101");
+
+        // Assert
+        verify(courseCatalogIndex).remove("CS101");
+        verify(courseSearchIndex).remove("CS101");
+    }
+
+    @Test
+    void searchCourses_DelegatesToSearchIndex() {
+        // Arrange
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(courseSearchIndex.search("calculus", pageable)).thenReturn(new PageImpl<>(Arrays.asList(
+                new CourseDTO("MATH101", "Calculus I", "Introduction to differential calculus.")), pageable, 1));
+
+        // Act
+        Page<CourseDTO> courses = courseService.searchCourses("calculus", pageable);
+
+        // Assert
+        assertEquals(1, courses.getTotalElements());
+        assertEquals("MATH101", courses.getContent().get(0).getCode());
+    }
+}
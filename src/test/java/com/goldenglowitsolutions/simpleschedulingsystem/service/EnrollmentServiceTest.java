@@ -0,0 +1,109 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.service;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentBatchResultDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.EnrollmentRequestDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.EnrollmentId;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.impl.EnrollmentServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class EnrollmentServiceTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private RosterChangeLog rosterChangeLog;
+
+    @InjectMocks
+    private EnrollmentServiceImpl enrollmentService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enrollAll_WritesNewEnrollmentsAndReportsFailures() {
+        // Arrange
+        List<EnrollmentRequestDTO> requests = Arrays.asList(
+                new EnrollmentRequestDTO(1L, Arrays.asList("CS101", "MATH101")),
+                new EnrollmentRequestDTO(2L, Arrays.asList("CS101")),
+                new EnrollmentRequestDTO(99L, Arrays.asList("CS101")),
+                new EnrollmentRequestDTO(2L, Arrays.asList("UNKNOWN")));
+
+        when(studentRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L, 2L));
+        when(courseRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("CS101", "MATH101"));
+        when(enrollmentRepository.findIdsByStudentIds(anyCollection()))
+                .thenReturn(List.of(new EnrollmentId(1L, "MATH101")));
+
+        // Act
+        EnrollmentBatchResultDTO result = enrollmentService.enrollAll(requests);
+
+        // Assert
+        assertEquals(2, result.getEnrolled());
+        assertEquals(1, result.getAlreadyEnrolled());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(2, result.getFailures().get(0).getIndex());
+        assertEquals(3, result.getFailures().get(1).getIndex());
+
+        ArgumentCaptor<List<Enrollment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(enrollmentRepository, times(1)).saveAll(saved.capture());
+        assertEquals(Set.of(new EnrollmentId(1L, "CS101"), new EnrollmentId(2L, "CS101")),
+                saved.getValue().stream().map(Enrollment::getId).collect(java.util.stream.Collectors.toSet()));
+        verify(studentRepository, times(1)).findExistingIds(anyCollection());
+        verify(courseRepository, times(1)).findExistingCodes(anyCollection());
+
+        verify(cacheInvalidator, times(1)).enrollmentsChanged(Set.of(1L, 2L), Set.of("CS101"));
+        verify(dataVersions).bump(DataVersions.Aggregate.ENROLLMENTS);
+        verify(rosterChangeLog).recordAll(argThat(changes -> changes.size() == 2));
+    }
+
+    @Test
+    void enrollAll_WithNothingNew_DoesNotEvictCaches() {
+        // Arrange
+        when(studentRepository.findExistingIds(anyCollection())).thenReturn(Set.of(1L));
+        when(courseRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("CS101"));
+        when(enrollmentRepository.findIdsByStudentIds(anyCollection()))
+                .thenReturn(List.of(new EnrollmentId(1L, "CS101")));
+
+        // Act
+        EnrollmentBatchResultDTO result = enrollmentService.enrollAll(
+                List.of(new EnrollmentRequestDTO(1L, List.of("CS101"))));
+
+        // Assert
+        assertEquals(0, result.getEnrolled());
+        assertEquals(1, result.getAlreadyEnrolled());
+        verifyNoInteractions(cacheInvalidator);
+    }
+}
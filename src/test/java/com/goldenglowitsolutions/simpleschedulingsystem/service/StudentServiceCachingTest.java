@@ -0,0 +1,163 @@
+package com.goldenglowitsolutions.simpleschedulingsystem.service;
+
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
+import com.goldenglowitsolutions.simpleschedulingsystem.config.CacheConfig;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.StudentSearchIndex;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.service.impl.StudentServiceImpl;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies that concurrent cache misses for the same key are coalesced into a single load.
+ */
+@SpringJUnitConfig(classes = {CacheConfig.class, NegativeCache.class, DataVersions.class,
+        StudentServiceImpl.class})
+class StudentServiceCachingTest {
+
+    private static final int CALLERS = 16;
+
+    @MockBean
+    private StudentRepository studentRepository;
+
+    @MockBean
+    private CourseRepository courseRepository;
+
+    @MockBean
+    private EnrollmentRepository enrollmentRepository;
+
+    @MockBean
+    private StudentSearchIndex studentSearchIndex;
+
+    @MockBean
+    private CacheInvalidator cacheInvalidator;
+
+    @MockBean
+    private RosterChangeLog rosterChangeLog;
+
+    @MockBean
+    private Validator validator;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private NegativeCache negativeCache;
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getAllStudents_ConcurrentMissesHitDatabaseOnce() throws Exception {
+        // Arrange
+        AtomicInteger queries = new AtomicInteger();
+        when(studentRepository.findAllDTOs()).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            // A slow query keeps the miss window open while the other callers arrive
+            Thread.sleep(200);
+            return List.of(new StudentDTO(1L, "John", "Doe", "john.doe@example.com"));
+        });
+
+        // Act
+        List<List<StudentDTO>> results = concurrently(() -> studentService.getAllStudents());
+
+        // Assert
+        assertEquals(1, queries.get());
+        assertEquals(1, new HashSet<>(results).size());
+        verify(studentRepository, times(1)).findAllDTOs();
+    }
+
+    @Test
+    void getStudentWithCourses_ConcurrentMissesHitDatabaseOnce() throws Exception {
+        // Arrange
+        Student student = new Student("John", "Doe", "john.doe@example.com");
+        student.setId(1L);
+        when(studentRepository.findWithCoursesById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return Optional.of(student);
+        });
+
+        // Act
+        List<StudentDTO> results = concurrently(() -> studentService.getStudentWithCourses(1L));
+
+        // Assert
+        verify(studentRepository, times(1)).findWithCoursesById(1L);
+        assertTrue(results.stream().allMatch(dto -> dto.getId().equals(1L)));
+    }
+
+    @Test
+    void getStudentById_MissingStudentIsRememberedUntilCreated() {
+        // Arrange
+        when(studentRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> studentService.getStudentById(99L));
+        assertTrue(negativeCache.isMissing(Student.class, 99L));
+
+        Student created = new Student("New", "Student", "new.student@example.com");
+        created.setId(99L);
+        when(studentRepository.save(any(Student.class))).thenReturn(created);
+        studentService.createStudent(new StudentDTO(null, "New", "Student", "new.student@example.com"));
+        assertFalse(negativeCache.isMissing(Student.class, 99L));
+        cacheManager.getCache("students").evict(99L);
+        when(studentRepository.findById(99L)).thenReturn(Optional.of(created));
+        assertEquals("New", studentService.getStudentById(99L).getFirstName());
+    }
+
+    private <T> List<T> concurrently(Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
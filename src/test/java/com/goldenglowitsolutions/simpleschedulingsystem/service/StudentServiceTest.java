@@ -1,21 +1,42 @@
 package com.goldenglowitsolutions.simpleschedulingsystem.service;
 
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.CacheInvalidator;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.DataVersions;
+import com.goldenglowitsolutions.simpleschedulingsystem.changelog.RosterChangeLog;
+import com.goldenglowitsolutions.simpleschedulingsystem.cache.NegativeCache;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.CourseDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.CursorPageDTO;
+import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentBatchResultDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.dto.StudentDTO;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Course;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.Enrollment;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.EnrollmentId;
+import com.goldenglowitsolutions.simpleschedulingsystem.entity.RosterChange;
 import com.goldenglowitsolutions.simpleschedulingsystem.entity.Student;
+import com.goldenglowitsolutions.simpleschedulingsystem.exception.BadRequestException;
 import com.goldenglowitsolutions.simpleschedulingsystem.exception.EntityNotFoundException;
+import com.goldenglowitsolutions.simpleschedulingsystem.index.StudentSearchIndex;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.CourseRepository;
+import com.goldenglowitsolutions.simpleschedulingsystem.repository.EnrollmentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.repository.StudentRepository;
 import com.goldenglowitsolutions.simpleschedulingsystem.service.impl.StudentServiceImpl;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.util.*;
 
@@ -31,6 +52,27 @@ class StudentServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private StudentSearchIndex studentSearchIndex;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private DataVersions dataVersions;
+
+    @Mock
+    private RosterChangeLog rosterChangeLog;
+
+    @Mock
+    private NegativeCache negativeCache;
+
+    @Mock
+    private Validator validator;
+
     @InjectMocks
     private StudentServiceImpl studentService;
 
@@ -74,7 +116,9 @@ class StudentServiceTest {
     @Test
     void getAllStudents_ReturnsListOfStudentDTOs() {
         // Arrange
-        when(studentRepository.findAll()).thenReturn(Arrays.asList(student1, student2));
+        when(studentRepository.findAllDTOs()).thenReturn(Arrays.asList(
+                new StudentDTO(1L, "John", "Doe", "john.doe@example.com"),
+                new StudentDTO(2L, "Jane", "Smith", "jane.smith@example.com")));
 
         // Act
         List<StudentDTO> students = studentService.getAllStudents();
@@ -108,6 +152,7 @@ class StudentServiceTest {
         assertThrows(EntityNotFoundException.class, () -> {
             studentService.getStudentById(999L);
         });
+        verify(negativeCache).markMissing(Student.class, 999L);
     }
 
     @Test
@@ -129,10 +174,53 @@ class StudentServiceTest {
         // Assert
         assertNotNull(createdStudentDTO);
         assertEquals(3L, createdStudentDTO.getId());
+        verify(negativeCache).forget(Student.class, 3L);
+        InOrder afterCommit = inOrder(cacheInvalidator, dataVersions);
+        afterCommit.verify(cacheInvalidator).evictStudentRoster();
+        afterCommit.verify(dataVersions).bump(DataVersions.Aggregate.STUDENTS);
+        verify(rosterChangeLog).record(RosterChange.Type.STUDENT_CREATED, 3L, null);
         assertEquals("New", createdStudentDTO.getFirstName());
         verify(studentRepository, times(1)).save(any(Student.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void createStudents_ReportsRejectedRowsAndSavesTheRest() {
+        // Arrange
+        StudentDTO valid = new StudentDTO(null, "New", "Student", "new.student@example.com");
+        StudentDTO invalid = new StudentDTO(null, "", "Student", "invalid@example.com");
+        StudentDTO duplicateInBatch = new StudentDTO(null, "Other", "Student", "new.student@example.com");
+        StudentDTO existing = new StudentDTO(null, "John", "Doe", "john.doe@example.com");
+
+        ConstraintViolation<StudentDTO> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("firstName");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("First name is required");
+        when(validator.validate(invalid)).thenReturn(Set.of(violation));
+        when(studentRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("john.doe@example.com"));
+        when(studentRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Student> students = invocation.getArgument(0);
+            students.forEach(student -> student.setId(3L));
+            return students;
+        });
+
+        // Act
+        StudentBatchResultDTO result = studentService.createStudents(
+                Arrays.asList(valid, invalid, duplicateInBatch, existing));
+
+        // Assert
+        assertEquals(1, result.getCreated().size());
+        assertEquals(3L, result.getCreated().get(0).getId());
+        assertEquals(3, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getIndex());
+        assertEquals("firstName: First name is required", result.getFailures().get(0).getMessage());
+        assertEquals(2, result.getFailures().get(1).getIndex());
+        assertEquals(3, result.getFailures().get(2).getIndex());
+        verify(studentRepository, times(1)).findExistingEmails(anyCollection());
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
     @Test
     void updateStudent_WithValidId_ReturnsUpdatedStudentDTO() {
         // Arrange
@@ -146,6 +234,7 @@ class StudentServiceTest {
 
         when(studentRepository.findById(1L)).thenReturn(Optional.of(student1));
         when(studentRepository.save(any(Student.class))).thenReturn(updatedStudent);
+        when(enrollmentRepository.findCourseCodesByStudentId(1L)).thenReturn(Arrays.asList("CS101"));
 
         // Act
         StudentDTO updatedStudentDTO = studentService.updateStudent(1L, studentDTO);
@@ -155,6 +244,7 @@ class StudentServiceTest {
         assertEquals("Updated", updatedStudentDTO.getFirstName());
         assertEquals("Name", updatedStudentDTO.getLastName());
         verify(studentRepository, times(1)).save(any(Student.class));
+        verify(cacheInvalidator, times(1)).studentUpdated(1L, Arrays.asList("CS101"));
     }
 
     @Test
@@ -162,6 +252,7 @@ class StudentServiceTest {
         // Arrange
         when(studentRepository.findById(1L)).thenReturn(Optional.of(student1));
         when(studentRepository.existsById(1L)).thenReturn(true);
+        when(enrollmentRepository.findCourseCodesByStudentId(1L)).thenReturn(Arrays.asList("CS101"));
         doNothing().when(studentRepository).deleteById(1L);
 
         // Act
@@ -169,6 +260,11 @@ class StudentServiceTest {
 
         // Assert
         verify(studentRepository, times(1)).deleteById(1L);
+        verify(studentSearchIndex).remove(1L);
+        verify(cacheInvalidator).studentDeleted(1L, Arrays.asList("CS101"));
+        InOrder afterCommit = inOrder(cacheInvalidator, dataVersions);
+        afterCommit.verify(cacheInvalidator).evictStudentRoster();
+        afterCommit.verify(dataVersions).bump(DataVersions.Aggregate.STUDENTS, DataVersions.Aggregate.ENROLLMENTS);
     }
 
     @Test
@@ -187,20 +283,86 @@ class StudentServiceTest {
         verify(studentRepository, times(1)).findAll(any(Pageable.class));
     }
 
+    @Test
+    void scrollStudents_ReturnsCursorThatSeeksPastLastStudent() {
+        // Arrange
+        Window<Student> firstWindow = Window.from(Arrays.asList(student1, student2), ScrollPosition::offset, true);
+        Window<Student> secondWindow = Window.from(Collections.emptyList(), ScrollPosition::offset, false);
+        when(studentRepository.findAllByOrderByLastNameAscIdAsc(any(ScrollPosition.class), any(Limit.class)))
+                .thenReturn(firstWindow)
+                .thenReturn(secondWindow);
+
+        // Act
+        CursorPageDTO<StudentDTO> firstPage = studentService.scrollStudents(null, 2, false);
+        CursorPageDTO<StudentDTO> secondPage = studentService.scrollStudents(firstPage.getNextCursor(), 2, false);
+
+        // Assert
+        assertEquals(2, firstPage.getContent().size());
+        assertTrue(firstPage.isHasNext());
+        assertNull(firstPage.getTotalElements());
+        assertFalse(secondPage.isHasNext());
+        assertNull(secondPage.getNextCursor());
+        verify(studentRepository).findAllByOrderByLastNameAscIdAsc(
+                ScrollPosition.forward(Map.of("lastName", "Smith", "id", 2L)), Limit.of(2));
+        verify(studentRepository, never()).count();
+    }
+
+    @Test
+    void scrollStudents_WithIncludeTotal_CountsStudents() {
+        // Arrange
+        when(studentRepository.findAllByOrderByLastNameAscIdAsc(any(ScrollPosition.class), any(Limit.class)))
+                .thenReturn(Window.from(Arrays.asList(student1), ScrollPosition::offset, false));
+        when(studentRepository.count()).thenReturn(1L);
+
+        // Act
+        CursorPageDTO<StudentDTO> page = studentService.scrollStudents(null, 10, true);
+
+        // Assert
+        assertEquals(1L, page.getTotalElements());
+    }
+
+    @Test
+    void scrollStudents_WithMalformedCursor_ThrowsException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> studentService.scrollStudents("not-a-cursor", 10, false));
+    }
+
     @Test
     void searchStudents_ReturnsMatchingStudents() {
         // Arrange
-        when(studentRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCaseOrEmailContainingIgnoreCase(
-                anyString(), anyString(), anyString())).thenReturn(Arrays.asList(student1));
+        when(studentRepository.searchDTOs("John", PageRequest.of(0, 50))).thenReturn(Arrays.asList(
+                new StudentDTO(1L, "John", "Doe", "john.doe@example.com")));
 
         // Act
-        List<StudentDTO> results = studentService.searchStudents("John");
+        List<StudentDTO> results = studentService.searchStudents("John", 50);
 
         // Assert
         assertEquals(1, results.size());
         assertEquals("John", results.get(0).getFirstName());
     }
 
+    @Test
+    void searchStudents_WithIndexEnabled_UsesSearchIndex() {
+        // Arrange
+        when(studentSearchIndex.isEnabled()).thenReturn(true);
+        when(studentSearchIndex.search("John", 50)).thenReturn(Arrays.asList(
+                new StudentDTO(1L, "John", "Doe", "john.doe@example.com")));
+
+        // Act
+        List<StudentDTO> results = studentService.searchStudents("John", 50);
+
+        // Assert
+        assertEquals(1, results.size());
+        verify(studentRepository, never()).searchDTOs(anyString(), any());
+    }
+
+    @Test
+    void searchStudents_WithInvalidLimit_ThrowsException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> studentService.searchStudents("John", 0));
+        assertThrows(BadRequestException.class, () -> studentService.searchStudents("John", 1001));
+    }
+
     @Test
     void getStudentWithCourses_ReturnsStudentWithCourses() {
         // Arrange
@@ -208,7 +370,7 @@ class StudentServiceTest {
         courses.add(course1);
         student1.setCourses(courses);
         
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student1));
+        when(studentRepository.findWithCoursesById(1L)).thenReturn(Optional.of(student1));
 
         // Act
         StudentDTO studentDTO = studentService.getStudentWithCourses(1L);
@@ -219,18 +381,62 @@ class StudentServiceTest {
     }
 
     @Test
-    void assignCoursesToStudent_AssignsCoursesToStudent() {
+    @SuppressWarnings("unchecked")
+    void assignCoursesToStudent_WritesOnlyMissingEnrollments() {
         // Arrange
         List<String> courseCodes = Arrays.asList("CS101", "MATH101");
         when(studentRepository.findById(1L)).thenReturn(Optional.of(student1));
-        when(courseRepository.findAllById(courseCodes)).thenReturn(Arrays.asList(course1, course2));
-        when(studentRepository.save(any(Student.class))).thenReturn(student1);
+        when(courseRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("CS101", "MATH101"));
+        when(enrollmentRepository.findIdsByStudentIds(List.of(1L)))
+                .thenReturn(List.of(new EnrollmentId(1L, "CS101")));
 
         // Act
         StudentDTO result = studentService.assignCourses(1L, courseCodes);
 
         // Assert
         assertNotNull(result);
-        verify(studentRepository, times(1)).save(any(Student.class));
+        ArgumentCaptor<List<Enrollment>> saved = ArgumentCaptor.forClass(List.class);
+        verify(enrollmentRepository, times(1)).saveAll(saved.capture());
+        assertEquals(List.of(new Enrollment(1L, "MATH101")), saved.getValue());
+        verify(studentRepository, never()).save(any(Student.class));
+        verify(cacheInvalidator, times(1)).enrollmentsChanged(List.of(1L), List.of("MATH101"));
+    }
+
+    @Test
+    void assignCoursesToStudent_WithUnknownCourse_ThrowsException() {
+        // Arrange
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student1));
+        when(courseRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("CS101"));
+
+        // Act & Assert
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
+            studentService.assignCourses(1L, Arrays.asList("CS101", "UNKNOWN"));
+        });
+        assertEquals("Courses not found with codes: [UNKNOWN]", exception.getMessage());
+        verify(enrollmentRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void unassignCourse_WithEnrollment_DeletesSingleRow() {
+        // Arrange
+        when(enrollmentRepository.deleteByStudentIdAndCourseCode(1L, "CS101")).thenReturn(1);
+
+        // Act
+        studentService.unassignCourse(1L, "CS101");
+
+        // Assert
+        verify(enrollmentRepository, times(1)).deleteByStudentIdAndCourseCode(1L, "CS101");
+        verify(studentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void unassignCourse_WithoutEnrollment_ThrowsException() {
+        // Arrange
+        when(enrollmentRepository.deleteByStudentIdAndCourseCode(1L, "CS101")).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> {
+            studentService.unassignCourse(1L, "CS101");
+        });
     }
-} 
\ No newline at end of file
+}